@@ -17,9 +17,19 @@
 package com.cloudbees.sdk.extensibility;
 
 import java.lang.annotation.Annotation;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.apache.commons.lang3.AnnotationUtils;
 
 /**
@@ -46,24 +56,287 @@ public class AnnotationLiteral {
     }
 
     public static <T extends Annotation> T of(Class<T> type, final Map<String, Object> values) {
-        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
-            Annotation annotation = (Annotation) proxy;
+        return type.cast(
+                Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, new Handler(type, values)));
+    }
+
+    public static <T extends Annotation> T canonical(Class<T> type) {
+        return canonical(type, Collections.emptyMap());
+    }
+
+    public static <T extends Annotation> T canonical(Class<T> type, Object value) {
+        return canonical(type, "value", value);
+    }
+
+    public static <T extends Annotation> T canonical(Class<T> type, String key, Object value) {
+        return canonical(type, Collections.singletonMap(key, value));
+    }
+
+    /**
+     * Like {@link #of(Class, Map)}, but returns the identical instance for the same type and values
+     * as long as that instance is in use.
+     * <p>
+     * Guice compares binding keys by their annotations, so looking up a binding with the very instance
+     * that was used to create it skips the member-by-member comparison altogether.
+     * {@link ExtensionFinder#deferClassLoading()} binds extensions with canonical instances of their qualifiers.
+     * <p>
+     * Members that aren't given take their default values, so {@code canonical(Named.class)} and
+     * {@code canonical(Named.class, "")} return the same instance. Null values are rejected.
+     */
+    public static <T extends Annotation> T canonical(Class<T> type, Map<String, Object> values) {
+        expungeStaleEntries();
+        Map<String, Object> complete = withDefaults(type, values);
+        CanonicalKey key = new CanonicalKey(type, complete);
+        CanonicalRef ref = CANONICAL.get(key);
+        Annotation a = ref == null ? null : ref.get();
+        if (a != null) {
+            return type.cast(a);
+        }
+
+        T candidate = of(type, complete);
+        while (true) {
+            ref = CANONICAL.compute(
+                    key, (k, old) -> old != null && old.get() != null ? old : new CanonicalRef(candidate, k));
+            a = ref.get();
+            if (a != null) {
+                return type.cast(a);
+            }
+        }
+    }
+
+    /**
+     * Fills in the default values of the members that aren't given, so that equal annotations
+     * end up with equal {@link CanonicalKey}s.
+     */
+    private static Map<String, Object> withDefaults(Class<? extends Annotation> type, Map<String, Object> values) {
+        Map<String, Object> r = new HashMap<>();
+        for (Method m : type.getDeclaredMethods()) {
+            if (m.isSynthetic()) {
+                continue;
+            }
+            String name = m.getName();
+            Object v;
+            if (values.containsKey(name)) {
+                v = values.get(name);
+                if (v == null) {
+                    throw new NullPointerException("Null value for " + type.getName() + "." + name + "()");
+                }
+            } else {
+                v = m.getDefaultValue();
+            }
+            if (v != null) {
+                r.put(name, v);
+            }
+        }
+        return r;
+    }
+
+    private static void expungeStaleEntries() {
+        CanonicalRef ref;
+        while ((ref = (CanonicalRef) STALE.poll()) != null) {
+            CANONICAL.remove(ref.key, ref);
+        }
+    }
+
+    /**
+     * Canonical instances, held weakly so that they go away once nobody uses them.
+     */
+    private static final ConcurrentMap<CanonicalKey, CanonicalRef> CANONICAL = new ConcurrentHashMap<>();
+
+    private static final ReferenceQueue<Annotation> STALE = new ReferenceQueue<>();
+
+    private static final class CanonicalRef extends WeakReference<Annotation> {
+        final CanonicalKey key;
+
+        CanonicalRef(Annotation referent, CanonicalKey key) {
+            super(referent, STALE);
+            this.key = key;
+        }
+    }
+
+    private static final class CanonicalKey {
+        private final Class<? extends Annotation> type;
+        private final Map<String, Object> values;
+        private final int hashCode;
+
+        CanonicalKey(Class<? extends Annotation> type, Map<String, Object> values) {
+            this.type = type;
+            this.values = values;
+            int h = type.hashCode();
+            for (Map.Entry<String, Object> e : values.entrySet()) {
+                h += e.getKey().hashCode() ^ Handler.memberHashCode(e.getValue());
+            }
+            this.hashCode = h;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CanonicalKey)) {
+                return false;
+            }
+            CanonicalKey that = (CanonicalKey) o;
+            if (hashCode != that.hashCode || type != that.type || values.size() != that.values.size()) {
+                return false;
+            }
+            for (Map.Entry<String, Object> e : values.entrySet()) {
+                if (!Objects.deepEquals(e.getValue(), that.values.get(e.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * Backs the annotation objects created by {@link AnnotationLiteral}.
+     * <p>
+     * Guice hashes and compares qualifier annotations all the time, so everything that can be
+     * computed upfront is: member values are resolved once, in the declaration order of the members,
+     * and the hash code defined by {@link Annotation#hashCode()} is computed at creation time.
+     * <p>
+     * Calls still go through {@link Proxy}, which boxes the hash code and wraps the argument of {@code equals}
+     * in an array. The JIT usually eliminates the boxing, but not the array: {@code equals} allocates about
+     * 50 bytes per call, as {@code AnnotationLiteralBenchmark} shows, even when comparing
+     * {@linkplain AnnotationLiteral#canonical(Class, Map) canonical} instances that are equal by identity.
+     */
+    private static final class Handler implements InvocationHandler {
+        private final Class<? extends Annotation> type;
+        private final Method[] members;
+        /**
+         * Values of {@link #members}, with null for a member that has neither a value nor a default.
+         */
+        private final Object[] values;
+
+        private final Map<String, Object> byName;
+        private final boolean complete;
+        private final int hashCode;
+        private volatile String toString;
+
+        Handler(Class<? extends Annotation> type, Map<String, Object> given) {
+            this.type = type;
+            // skip the likes of $jacocoInit
+            this.members = Arrays.stream(type.getDeclaredMethods())
+                    .filter(m -> !m.isSynthetic())
+                    .toArray(Method[]::new);
+            Arrays.sort(members, Comparator.comparing(Method::getName)); // stable order to compare values
+            this.values = new Object[members.length];
+            this.byName = new HashMap<>();
+            boolean complete = true;
+            int h = 0;
+            for (int i = 0; i < members.length; i++) {
+                Method m = members[i];
+                String name = m.getName();
+                Object v = given.containsKey(name) ? given.get(name) : m.getDefaultValue();
+                values[i] = v;
+                if (v == null) {
+                    complete = false;
+                } else {
+                    byName.put(name, v);
+                    h += (127 * name.hashCode()) ^ memberHashCode(v);
+                }
+                try {
+                    m.setAccessible(true); // in case the annotation type is not public
+                } catch (RuntimeException e) {
+                    // we'll find out in equals
+                }
+            }
+            this.complete = complete;
+            this.hashCode = h;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
             String methodName = method.getName();
+            if (method.getDeclaringClass() == type) {
+                Object v = byName.get(methodName);
+                if (v == null) {
+                    throw new NoSuchMethodException("Missing value for annotation key: " + methodName);
+                }
+                return v;
+            }
             switch (methodName) {
                 case "equals":
-                    return AnnotationUtils.equals(annotation, (Annotation) args[0]);
+                    return equals((Annotation) proxy, args[0]);
                 case "toString":
-                    return AnnotationUtils.toString(annotation);
+                    String s = toString;
+                    if (s == null) {
+                        toString = s = AnnotationUtils.toString((Annotation) proxy);
+                    }
+                    return s;
                 case "hashCode":
-                    return AnnotationUtils.hashCode(annotation);
+                    return complete ? hashCode : AnnotationUtils.hashCode((Annotation) proxy);
                 case "annotationType":
                     return type;
                 default:
-                    if (!values.containsKey(methodName)) {
-                        throw new NoSuchMethodException("Missing value for annotation key: " + methodName);
-                    }
-                    return values.get(methodName);
+                    throw new NoSuchMethodException("Missing value for annotation key: " + methodName);
+            }
+        }
+
+        private boolean equals(Annotation proxy, Object o) throws ReflectiveOperationException {
+            if (proxy == o) {
+                return true;
+            }
+            if (!type.isInstance(o)) {
+                return false;
+            }
+            if (!complete) {
+                return AnnotationUtils.equals(proxy, (Annotation) o);
+            }
+            if (Proxy.isProxyClass(o.getClass())) {
+                InvocationHandler h = Proxy.getInvocationHandler(o);
+                if (h instanceof Handler) {
+                    Handler that = (Handler) h;
+                    return hashCode == that.hashCode && Arrays.deepEquals(values, that.values);
+                }
+            }
+            for (int i = 0; i < members.length; i++) {
+                if (!Objects.deepEquals(values[i], members[i].invoke(o))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Hash code of a member value as defined by {@link Annotation#hashCode()}.
+         */
+        private static int memberHashCode(Object v) {
+            if (!v.getClass().isArray()) {
+                return v.hashCode();
+            }
+            if (v instanceof byte[]) {
+                return Arrays.hashCode((byte[]) v);
+            }
+            if (v instanceof char[]) {
+                return Arrays.hashCode((char[]) v);
+            }
+            if (v instanceof double[]) {
+                return Arrays.hashCode((double[]) v);
+            }
+            if (v instanceof float[]) {
+                return Arrays.hashCode((float[]) v);
+            }
+            if (v instanceof int[]) {
+                return Arrays.hashCode((int[]) v);
+            }
+            if (v instanceof long[]) {
+                return Arrays.hashCode((long[]) v);
+            }
+            if (v instanceof short[]) {
+                return Arrays.hashCode((short[]) v);
+            }
+            if (v instanceof boolean[]) {
+                return Arrays.hashCode((boolean[]) v);
             }
-        }));
+            return Arrays.hashCode((Object[]) v);
+        }
     }
 }
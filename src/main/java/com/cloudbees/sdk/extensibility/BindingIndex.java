@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cloudbees.sdk.extensibility;
+
+import com.google.inject.Binding;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.TypeLiteral;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Index of the explicit bindings of an {@link Injector}, grouped by their {@link TypeLiteral}.
+ *
+ * <p>
+ * The explicit bindings of an injector never change once it's created, so the index is computed
+ * once per injector and then reused by every {@link ExtensionList} that looks at it.
+ *
+ * <p>
+ * The index only holds {@link Key}s, not {@link Binding}s, because bindings strongly refer back
+ * to their injector, which would prevent the weakly held injector from being ever collected.
+ *
+ * <p>
+ * Every {@link ExtensionList} lookup goes through {@link #of(Injector)}, so finding the index of an injector
+ * doesn't take any lock. Injectors are held by weak keys of a concurrent map instead of a {@link java.util.WeakHashMap},
+ * whose reads modify the map as they purge collected entries.
+ */
+final class BindingIndex {
+    private static final ConcurrentMap<InjectorKey, BindingIndex> INDICES = new ConcurrentHashMap<>();
+
+    /**
+     * Where the keys of {@link #INDICES} go once their injector is collected.
+     */
+    private static final ReferenceQueue<Injector> COLLECTED = new ReferenceQueue<>();
+
+    private final Map<TypeLiteral<?>, List<Key<?>>> keys;
+
+    private BindingIndex(Injector injector) {
+        Map<TypeLiteral<?>, List<Key<?>>> keys = new HashMap<>();
+        for (Key<?> k : injector.getBindings().keySet()) {
+            keys.computeIfAbsent(k.getTypeLiteral(), t -> new ArrayList<>()).add(k);
+        }
+        this.keys = keys;
+    }
+
+    /**
+     * Returns the index for the given injector, building it if this is the first time we see it.
+     * Parent injectors are indexed separately.
+     */
+    static BindingIndex of(Injector injector) {
+        BindingIndex index = INDICES.get(new StrongKey(injector));
+        if (index == null) {
+            for (Reference<?> r; (r = COLLECTED.poll()) != null; ) {
+                INDICES.remove(r);
+            }
+            // two threads might race to build the index, but both produce the same result
+            index = new BindingIndex(injector);
+            BindingIndex existing = INDICES.putIfAbsent(new WeakKey(injector), index);
+            if (existing != null) {
+                index = existing;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Lists up all the bindings of the given type in the given injector and its ancestors,
+     * in the order of the injector chain.
+     */
+    static <T> List<Binding<T>> bindings(Injector injector, TypeLiteral<T> type) {
+        List<Binding<T>> r = new ArrayList<>();
+        for (Injector i = injector; i != null; i = i.getParent()) {
+            addOwnBindings(i, type, r);
+        }
+        return r;
+    }
+
+    /**
+     * Adds the bindings of the given type in the given injector alone, without its ancestors.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> void addOwnBindings(Injector i, TypeLiteral<T> type, List<Binding<T>> r) {
+        for (Key<?> k : of(i).keys.getOrDefault(type, Collections.emptyList())) {
+            r.add(i.getBinding((Key<T>) k));
+        }
+    }
+
+    /**
+     * Compares injectors by identity, so that the {@link StrongKey} of a lookup finds the {@link WeakKey} of
+     * the entry.
+     */
+    private interface InjectorKey {
+        Injector injector();
+
+        static boolean equals(InjectorKey a, Object b) {
+            if (a == b) {
+                return true;
+            }
+            Injector i = a.injector();
+            return i != null && b instanceof InjectorKey && i == ((InjectorKey) b).injector();
+        }
+    }
+
+    private static final class StrongKey implements InjectorKey {
+        private final Injector injector;
+
+        StrongKey(Injector injector) {
+            this.injector = injector;
+        }
+
+        @Override
+        public Injector injector() {
+            return injector;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(injector);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return InjectorKey.equals(this, o);
+        }
+    }
+
+    private static final class WeakKey extends WeakReference<Injector> implements InjectorKey {
+        private final int hash;
+
+        WeakKey(Injector injector) {
+            super(injector, COLLECTED);
+            this.hash = System.identityHashCode(injector);
+        }
+
+        @Override
+        public Injector injector() {
+            return get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return InjectorKey.equals(this, o);
+        }
+    }
+}
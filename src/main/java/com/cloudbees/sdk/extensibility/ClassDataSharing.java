@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cloudbees.sdk.extensibility;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.sun.management.HotSpotDiagnosticMXBean;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Speeds up the start of short-lived JVMs with a JDK class data sharing (AppCDS) archive
+ * of the classes that extension discovery loads.
+ *
+ * <p>
+ * First, run the discovery once to record the classes it touches:
+ *
+ * <pre>
+ * java -cp app.jar:plugins/* com.cloudbees.sdk.extensibility.ClassDataSharing app.classlist
+ * </pre>
+ *
+ * This runs the discovery and the {@linkplain ExtensionWarmup warm-up} in a new JVM with
+ * {@code -XX:DumpLoadedClassList}, so that the list has every class the JVM loaded along the way,
+ * including those of Guice and those that the constructors of the extensions load. To pass other JVM options,
+ * run that JVM directly:
+ *
+ * <pre>
+ * java -XX:DumpLoadedClassList=app.classlist -cp app.jar:plugins/* com.cloudbees.sdk.extensibility.ClassDataSharing
+ * </pre>
+ *
+ * Then build the archive from that list, and use it to run the application:
+ *
+ * <pre>
+ * java -Xshare:dump -XX:SharedClassListFile=app.classlist -XX:SharedArchiveFile=app.jsa -cp app.jar:plugins/*
+ * java -XX:SharedArchiveFile=app.jsa -cp app.jar:plugins/* ...
+ * </pre>
+ *
+ * The application can then call {@link #verify(Path)} at startup to find out if the archive is in effect;
+ * the JVM silently runs without it when, for example, the classpath doesn't match the one it was built with.
+ *
+ * <p>
+ * A class list can only name classes of the built-in class loaders. For extensions in other class loaders,
+ * such as plugin class loaders, use a dynamic archive ({@code -XX:ArchiveClassesAtExit}) instead.
+ */
+public final class ClassDataSharing {
+    private ClassDataSharing() {}
+
+    /**
+     * Runs the discovery in the given class loader, creates the injector, and
+     * {@linkplain ExtensionWarmup warms up} the extensions, recording every class that
+     * {@link ExtensionFinder} loads along the way.
+     * <p>
+     * Classes that are loaded by Guice or by the extensions themselves are not recorded; the list that
+     * {@link #main(String[])} has the JVM write is complete.
+     */
+    public static Set<Class<?>> train(ClassLoader cl) {
+        Set<Class<?>> classes = ConcurrentHashMap.newKeySet();
+        ExtensionFinder finder = new ExtensionFinder(cl);
+        finder.classTracer = classes::add;
+        Injector injector = Guice.createInjector(finder);
+        ExtensionWarmup.Report r = new ExtensionWarmup(Runnable::run).warmUp(injector);
+        if (!r.getFailures().isEmpty()) {
+            LOGGER.log(Level.WARNING, "Some extensions failed to instantiate: {0}", r.getFailures().keySet());
+        }
+        return classes;
+    }
+
+    /**
+     * Writes the given classes and their supertypes in the format of {@code -XX:SharedClassListFile},
+     * leaving out those that aren't in a built-in class loader.
+     */
+    public static void writeClassList(Collection<Class<?>> classes, Path file) throws IOException {
+        Set<String> names = new LinkedHashSet<>();
+        for (Class<?> c : classes) {
+            add(c, names);
+        }
+        Files.write(file, names, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Adds the class after its supertypes, so that the list can be loaded from top to bottom.
+     */
+    private static void add(Class<?> c, Set<String> names) {
+        if (c == null || c.isArray() || c.isPrimitive() || c.isHidden() || !isBuiltIn(c.getClassLoader())) {
+            return;
+        }
+        String name = c.getName().replace('.', '/');
+        if (names.contains(name)) {
+            return;
+        }
+        add(c.getSuperclass(), names);
+        for (Class<?> i : c.getInterfaces()) {
+            add(i, names);
+        }
+        names.add(name);
+    }
+
+    private static boolean isBuiltIn(ClassLoader cl) {
+        return cl == null || cl == ClassLoader.getSystemClassLoader() || cl == ClassLoader.getPlatformClassLoader();
+    }
+
+    /**
+     * Checks if the JVM is using the given archive, and logs a warning if it isn't.
+     *
+     * @return
+     *      false if the archive isn't in use, including when that can't be determined because the JVM isn't HotSpot.
+     */
+    public static boolean verify(Path archive) {
+        String file = getVMOption("SharedArchiveFile");
+        if (!"true".equals(getVMOption("UseSharedSpaces")) || file == null || file.isEmpty()) {
+            LOGGER.log(Level.WARNING, "Class data sharing archive {0} is not in use", archive);
+            return false;
+        }
+        Path actual = Paths.get(file).toAbsolutePath().normalize();
+        if (!actual.equals(archive.toAbsolutePath().normalize())) {
+            LOGGER.log(
+                    Level.WARNING,
+                    "Using class data sharing archive {0} instead of {1}",
+                    new Object[] {actual, archive});
+            return false;
+        }
+        return true;
+    }
+
+    private static String getVMOption(String name) {
+        try {
+            HotSpotDiagnosticMXBean bean = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+            return bean == null ? null : bean.getVMOption(name).getValue();
+        } catch (IllegalArgumentException | LinkageError e) {
+            return null; // not HotSpot, or no such option in this version
+        }
+    }
+
+    /**
+     * Records the class list of the discovery in the system class loader.
+     *
+     * @param args
+     *      The class list file to write, or nothing if this JVM already runs with {@code -XX:DumpLoadedClassList}.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String dump = getVMOption("DumpLoadedClassList");
+        if (args.length == 0 && dump != null && !dump.isEmpty()) {
+            train(ClassLoader.getSystemClassLoader()); // the JVM writes the list as it exits
+            return;
+        }
+        if (args.length != 1) {
+            System.err.println("Usage: java -cp <classpath> " + ClassDataSharing.class.getName() + " <classlist>");
+            System.exit(1);
+        }
+        Process p = new ProcessBuilder(
+                        Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                        "-XX:DumpLoadedClassList=" + Paths.get(args[0]).toAbsolutePath(),
+                        "-cp",
+                        System.getProperty("java.class.path"),
+                        ClassDataSharing.class.getName())
+                .inheritIO()
+                .start();
+        int exit = p.waitFor();
+        if (exit != 0) {
+            System.exit(exit);
+        }
+    }
+
+    private static final Logger LOGGER = Logger.getLogger(ClassDataSharing.class.getName());
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cloudbees.sdk.extensibility;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import com.google.inject.ProvisionException;
+import com.google.inject.name.Names;
+import jakarta.inject.Inject;
+import java.lang.annotation.Annotation;
+import java.util.List;
+
+/**
+ * Binds an extension found in the {@linkplain IndexedExtension index} without loading its class.
+ * <p>
+ * The bindings are made against the same keys that {@link ExtensionLoaderModule.Default} would use,
+ * but they go through {@link DeferredProvider}, which only loads, links, and instantiates
+ * the implementation when the extension is first requested.
+ * <p>
+ * Since the implementation isn't loaded, its {@linkplain ExtensionPoint#scope() default scope} is applied
+ * to a single {@linkplain #implementationKey(String) binding of the implementation}, which every extension point
+ * key is linked to. So an implementation of two singleton extension points is still instantiated only once,
+ * just like when {@link ExtensionLoaderModule.Default} scopes the implementation itself.
+ *
+ * @see ExtensionFinder#deferClassLoading()
+ */
+final class DeferredExtensionModule extends AbstractModule {
+    private final List<Class<?>> extensionPoints;
+    private final Annotation qualifier;
+    private final Implementation implementation;
+    private final boolean bindImplementation;
+    private final ExtensionScope scope;
+
+    /**
+     * @param bindImplementation
+     *      false if the {@linkplain #implementationKey(String) implementation key} is already bound
+     *      by the parent injector, in which case only the extension point keys are bound.
+     */
+    DeferredExtensionModule(
+            List<Class<?>> extensionPoints,
+            Annotation qualifier,
+            ClassLoader cl,
+            String impl,
+            boolean bindImplementation,
+            ExtensionScope scope) {
+        this.extensionPoints = extensionPoints;
+        this.qualifier = qualifier;
+        this.implementation = new Implementation(cl, impl);
+        this.bindImplementation = bindImplementation;
+        this.scope = scope;
+    }
+
+    /**
+     * The key that the implementation itself is bound to, since its class can't be used as one.
+     */
+    static Key<Object> implementationKey(String impl) {
+        return Key.get(Object.class, Names.named("deferred:" + impl));
+    }
+
+    @Override
+    protected void configure() {
+        Key<Object> key = implementationKey(implementation.name);
+        if (bindImplementation) {
+            scope.applyTo(binder().withSource(implementation.name).bind(key).toProvider(implementation));
+        }
+        for (Class<?> ep : extensionPoints) {
+            bind(ep, key);
+        }
+    }
+
+    private <T> void bind(Class<T> ep, Key<Object> key) {
+        // scoping this binding too lets Scopes.isSingleton() see it, and it caches the shared instance anyway
+        scope.applyTo(binder().withSource(implementation.name)
+                .bind(Key.get(ep, qualifier))
+                .toProvider(new DeferredProvider<>(implementation, ep, key)));
+    }
+
+    /**
+     * Instantiates the implementation on behalf of all its extension points.
+     */
+    private static final class Implementation implements Provider<Object> {
+        private final ClassLoader cl;
+        private final String name;
+        private volatile Class<?> type;
+
+        @Inject
+        private Injector injector;
+
+        Implementation(ClassLoader cl, String name) {
+            this.cl = cl;
+            this.name = name;
+        }
+
+        /**
+         * Loads the implementation class, which happens at most once.
+         */
+        Class<?> type() {
+            Class<?> t = type;
+            if (t == null) {
+                try {
+                    t = Class.forName(name, true, cl);
+                } catch (ClassNotFoundException | LinkageError e) {
+                    throw new ProvisionException("Failed to load extension " + name, e);
+                }
+                type = t;
+            }
+            return t;
+        }
+
+        @Override
+        public Object get() {
+            // going through the injector honors the scope annotations on the implementation
+            return injector.getInstance(type());
+        }
+
+        @Override
+        public String toString() {
+            return "deferred " + name;
+        }
+    }
+
+    static final class DeferredProvider<T> implements Provider<T> {
+        private final Implementation implementation;
+        final String impl;
+        private final Class<T> extensionPoint;
+        private final Key<Object> key;
+
+        @Inject
+        private Injector injector;
+
+        DeferredProvider(Implementation implementation, Class<T> extensionPoint, Key<Object> key) {
+            this.implementation = implementation;
+            this.impl = implementation.name;
+            this.extensionPoint = extensionPoint;
+            this.key = key;
+        }
+
+        /**
+         * Loads the implementation class, which happens at most once.
+         */
+        Class<? extends T> type() {
+            try {
+                return implementation.type().asSubclass(extensionPoint);
+            } catch (ClassCastException e) {
+                throw new ProvisionException("Failed to load extension " + impl, e);
+            }
+        }
+
+        @Override
+        public T get() {
+            type();
+            return extensionPoint.cast(injector.getInstance(key));
+        }
+
+        @Override
+        public String toString() {
+            return "deferred " + impl;
+        }
+    }
+}
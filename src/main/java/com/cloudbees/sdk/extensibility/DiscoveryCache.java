@@ -0,0 +1,301 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cloudbees.sdk.extensibility;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipException;
+
+/**
+ * Discovery result of {@link ExtensionFinder} saved to a file, so that later processes with the same classpath
+ * can skip the discovery. See {@link ExtensionFinder#cacheIn(Path)}.
+ *
+ * <p>
+ * The cache is keyed by a digest of the path, size, and modification time of every jar visible to the class loader,
+ * including those that their manifests add with {@code Class-Path}, and of every file in its directories,
+ * so it's discarded whenever any of them changes. The file holds the digest, a table of the distinct strings,
+ * then one record per extension that refers to the strings by their position, in the same shape as
+ * {@link IndexedExtension}.
+ */
+final class DiscoveryCache {
+    private static final int MAGIC = 0x45585443; // "EXTC"
+    private static final int VERSION = 1;
+
+    private final Path file;
+
+    DiscoveryCache(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Computes the key of the cache for the given class loader.
+     *
+     * @param mode
+     *      Anything else that affects the discovery result.
+     * @return
+     *      null if the classpath of the class loader can't be determined.
+     */
+    static byte[] fingerprint(ClassLoader cl, String mode) throws IOException {
+        MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError(e); // every JVM has SHA-256
+        }
+        update(md, mode);
+        ClassLoader platform = ClassLoader.getPlatformClassLoader();
+        for (ClassLoader l = cl; l != null && l != platform; l = l.getParent()) {
+            List<Path> entries = new ArrayList<>();
+            if (l instanceof URLClassLoader) {
+                for (URL u : ((URLClassLoader) l).getURLs()) {
+                    if (!u.getProtocol().equals("file")) {
+                        return null;
+                    }
+                    try {
+                        entries.add(Paths.get(u.toURI()));
+                    } catch (URISyntaxException | IllegalArgumentException e) {
+                        return null;
+                    }
+                }
+            } else if (l == ClassLoader.getSystemClassLoader()) {
+                for (String e : System.getProperty("java.class.path").split(File.pathSeparator)) {
+                    if (!e.isEmpty()) {
+                        entries.add(Paths.get(e));
+                    }
+                }
+            } else {
+                return null;
+            }
+            update(md, "--");
+            for (Path p : entries) {
+                fingerprint(md, p, new HashSet<>());
+            }
+        }
+        return md.digest();
+    }
+
+    private static void fingerprint(MessageDigest md, Path p, Set<Path> seen) throws IOException {
+        p = p.toAbsolutePath().normalize();
+        if (!seen.add(p)) {
+            return;
+        }
+        update(md, p.toString());
+        if (Files.isDirectory(p)) {
+            // the time stamp of a directory doesn't change when files deeper inside change
+            try (Stream<Path> files = Files.walk(p)) {
+                for (Path f : files.filter(Files::isRegularFile).sorted().collect(Collectors.toList())) {
+                    update(md, p.relativize(f).toString());
+                    attributes(md, f);
+                }
+            }
+        } else if (Files.exists(p)) {
+            attributes(md, p);
+            // like "java -jar", and the manifest-only jars that test runners use to shorten the command line
+            for (Path e : manifestClassPath(p)) {
+                fingerprint(md, e, seen);
+            }
+        } else {
+            update(md, "missing");
+        }
+    }
+
+    /**
+     * Lists the {@code Class-Path} entries of the manifest of the given jar, the way {@link URLClassLoader}
+     * resolves them.
+     */
+    private static List<Path> manifestClassPath(Path jar) throws IOException {
+        Manifest m;
+        try (JarFile j = new JarFile(jar.toFile(), false)) {
+            m = j.getManifest();
+        } catch (ZipException e) {
+            return List.of(); // not a jar, so the class loader ignores it too
+        }
+        String cp = m == null ? null : m.getMainAttributes().getValue(Attributes.Name.CLASS_PATH);
+        if (cp == null) {
+            return List.of();
+        }
+        List<Path> r = new ArrayList<>();
+        URL base = jar.toUri().toURL();
+        for (String e : cp.trim().split("\\s+")) {
+            try {
+                URL u = new URL(base, e);
+                if (u.getProtocol().equals("file")) {
+                    r.add(Paths.get(u.toURI()));
+                }
+            } catch (MalformedURLException | URISyntaxException | IllegalArgumentException x) {
+                // the class loader skips these as well
+            }
+        }
+        return r;
+    }
+
+    private static void attributes(MessageDigest md, Path p) throws IOException {
+        BasicFileAttributes a = Files.readAttributes(p, BasicFileAttributes.class);
+        update(md, a.size() + "/" + a.lastModifiedTime().toMillis());
+    }
+
+    private static void update(MessageDigest md, String s) {
+        md.update(s.getBytes(StandardCharsets.UTF_8));
+        md.update((byte) 0);
+    }
+
+    /**
+     * Reads the cache.
+     *
+     * @return
+     *      null if there's no cache for the given fingerprint.
+     */
+    List<IndexedExtension> read(byte[] fingerprint) throws IOException {
+        ByteBuffer buf;
+        try {
+            // not memory mapped, as a mapping keeps the file open on Windows until it's garbage collected,
+            // which would make the next write() fail to replace it
+            buf = ByteBuffer.wrap(Files.readAllBytes(file));
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        try {
+            if (buf.getInt() != MAGIC || buf.getInt() != VERSION) {
+                return null;
+            }
+            byte[] digest = new byte[buf.getInt()];
+            buf.get(digest);
+            if (!Arrays.equals(digest, fingerprint)) {
+                return null;
+            }
+            String[] strings = new String[buf.getInt()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] b = new byte[buf.getInt()];
+                buf.get(b);
+                strings[i] = new String(b, StandardCharsets.UTF_8);
+            }
+            int n = buf.getInt();
+            List<IndexedExtension> r = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                String impl = strings[buf.getInt()];
+                List<String> eps = new ArrayList<>();
+                for (int j = buf.getInt(); j > 0; j--) {
+                    eps.add(strings[buf.getInt()]);
+                }
+                int q = buf.getInt();
+                int nv = buf.getInt();
+                Map<String, String> values = nv < 0 ? null : new LinkedHashMap<>();
+                for (int j = 0; j < nv; j++) {
+                    values.put(strings[buf.getInt()], strings[buf.getInt()]);
+                }
+                r.add(new IndexedExtension(impl, eps, q < 0 ? null : strings[q], values));
+            }
+            return r;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new IOException(file + " is corrupted", e);
+        }
+    }
+
+    /**
+     * Replaces the cache. Readers either see the old or the new file, never a half-written one.
+     */
+    void write(byte[] fingerprint, List<IndexedExtension> extensions) throws IOException {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        for (IndexedExtension e : extensions) {
+            intern(strings, e.impl);
+            e.extensionPoints.forEach(s -> intern(strings, s));
+            if (e.qualifier != null) {
+                intern(strings, e.qualifier);
+                if (e.qualifierValues != null) {
+                    for (Entry<String, String> v : e.qualifierValues.entrySet()) {
+                        intern(strings, v.getKey());
+                        intern(strings, v.getValue());
+                    }
+                }
+            }
+        }
+
+        Path dir = file.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream os = Files.newOutputStream(tmp);
+                    DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(fingerprint.length);
+                out.write(fingerprint);
+                out.writeInt(strings.size());
+                for (String s : strings.keySet()) {
+                    byte[] b = s.getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(b.length);
+                    out.write(b);
+                }
+                out.writeInt(extensions.size());
+                for (IndexedExtension e : extensions) {
+                    out.writeInt(strings.get(e.impl));
+                    out.writeInt(e.extensionPoints.size());
+                    for (String ep : e.extensionPoints) {
+                        out.writeInt(strings.get(ep));
+                    }
+                    out.writeInt(e.qualifier == null ? -1 : strings.get(e.qualifier));
+                    if (e.qualifier == null || e.qualifierValues == null) {
+                        out.writeInt(-1);
+                    } else {
+                        out.writeInt(e.qualifierValues.size());
+                        for (Entry<String, String> v : e.qualifierValues.entrySet()) {
+                            out.writeInt(strings.get(v.getKey()));
+                            out.writeInt(strings.get(v.getValue()));
+                        }
+                    }
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static void intern(Map<String, Integer> strings, String s) {
+        strings.computeIfAbsent(s, k -> strings.size());
+    }
+}
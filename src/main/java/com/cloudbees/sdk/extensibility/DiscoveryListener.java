@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cloudbees.sdk.extensibility;
+
+import java.time.Duration;
+
+/**
+ * Receives the time {@link ExtensionFinder} spends in each step of discovering extensions,
+ * to find out which extensions make injector creation slow.
+ *
+ * <p>
+ * Register one with {@link ExtensionFinder#addListener(DiscoveryListener)} before the injector is created.
+ * {@link DiscoveryReport} is a ready-made implementation that aggregates the timings.
+ * Since classes may be {@linkplain ExtensionFinder#loadClassesWith(java.util.concurrent.Executor) loaded
+ * concurrently}, implementations need to be thread-safe.
+ *
+ * @see DiscoveryReport
+ */
+@FunctionalInterface
+public interface DiscoveryListener {
+    /**
+     * Steps of the discovery.
+     */
+    enum Phase {
+        /**
+         * Reading an index of extensions.
+         * The subject is the name of the indexed annotation or the index resource.
+         */
+        INDEX,
+        /**
+         * Loading an extension class. The subject is the extension.
+         */
+        CLASS_LOADING,
+        /**
+         * Determining the extension points of an extension. The subject is the extension.
+         */
+        EXTENSION_POINTS,
+        /**
+         * Creating the {@link ExtensionLoaderModule} for an extension. The subject is the extension.
+         */
+        LOADER_MODULE,
+        /**
+         * Installing the module that binds an extension, which for an {@link ExtensionModule} includes
+         * instantiating and configuring it. The subject is the extension.
+         */
+        CONFIGURE
+    }
+
+    /**
+     * Called when a step of the discovery completes.
+     *
+     * @param subject
+     *      Binary name of the class or resource the step was about.
+     */
+    void onTimed(Phase phase, String subject, Duration duration);
+}
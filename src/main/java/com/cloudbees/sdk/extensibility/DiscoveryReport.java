@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cloudbees.sdk.extensibility;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link DiscoveryListener} that adds up the timings, to list the slowest extensions, both overall and to
+ * {@linkplain Phase#CONFIGURE configure}.
+ *
+ * <pre>
+ * DiscoveryReport report = new DiscoveryReport();
+ * Injector i = Guice.createInjector(new ExtensionFinder(cl).addListener(report));
+ * LOGGER.info(report.toString());
+ * </pre>
+ */
+public class DiscoveryReport implements DiscoveryListener {
+    private final Map<Phase, Map<String, LongAdder>> timings = new EnumMap<>(Phase.class);
+
+    public DiscoveryReport() {
+        for (Phase p : Phase.values()) {
+            timings.put(p, new ConcurrentHashMap<>());
+        }
+    }
+
+    @Override
+    public void onTimed(Phase phase, String subject, Duration duration) {
+        timings.get(phase).computeIfAbsent(subject, k -> new LongAdder()).add(duration.toNanos());
+    }
+
+    /**
+     * Total time spent in the given step.
+     */
+    public Duration getTotal(Phase phase) {
+        long n = 0;
+        for (LongAdder a : timings.get(phase).values()) {
+            n += a.sum();
+        }
+        return Duration.ofNanos(n);
+    }
+
+    /**
+     * The subjects that took the longest in the given step, slowest first.
+     */
+    public List<Entry<String, Duration>> getSlowest(Phase phase, int n) {
+        Map<String, Long> m = new HashMap<>();
+        timings.get(phase).forEach((k, v) -> m.put(k, v.sum()));
+        return top(m, n);
+    }
+
+    /**
+     * The extensions that took the longest to discover and bind, adding up all the steps except
+     * {@link Phase#INDEX}, slowest first.
+     */
+    public List<Entry<String, Duration>> getSlowestExtensions(int n) {
+        Map<String, Long> m = new HashMap<>();
+        for (Phase p : Phase.values()) {
+            if (p != Phase.INDEX) {
+                timings.get(p).forEach((k, v) -> m.merge(k, v.sum(), Long::sum));
+            }
+        }
+        return top(m, n);
+    }
+
+    private static List<Entry<String, Duration>> top(Map<String, Long> m, int n) {
+        List<Entry<String, Duration>> r = new ArrayList<>();
+        m.entrySet().stream()
+                .sorted(Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(n)
+                .forEach(e -> r.add(Map.entry(e.getKey(), Duration.ofNanos(e.getValue()))));
+        return r;
+    }
+
+    /**
+     * Formats the total of each step, followed by the given number of slowest extensions overall,
+     * and of slowest extensions to {@linkplain Phase#CONFIGURE configure}, which is where the work
+     * of an {@link ExtensionModule} shows up.
+     */
+    public String format(int n) {
+        StringBuilder b = new StringBuilder("Extension discovery:");
+        for (Phase p : Phase.values()) {
+            b.append("\n  ").append(p).append(": ").append(millis(getTotal(p)));
+        }
+        append(b, "Slowest extensions", getSlowestExtensions(n));
+        append(b, "Slowest to configure", getSlowest(Phase.CONFIGURE, n));
+        return b.toString();
+    }
+
+    private static void append(StringBuilder b, String title, List<Entry<String, Duration>> entries) {
+        b.append('\n').append(title).append(':');
+        for (Entry<String, Duration> e : entries) {
+            b.append("\n  ").append(millis(e.getValue())).append(' ').append(e.getKey());
+        }
+    }
+
+    private static String millis(Duration d) {
+        return String.format(Locale.ROOT, "%.1fms", d.toNanos() / 1e6);
+    }
+
+    @Override
+    public String toString() {
+        return format(10);
+    }
+}
@@ -16,14 +16,39 @@
 
 package com.cloudbees.sdk.extensibility;
 
+import com.cloudbees.sdk.extensibility.DiscoveryListener.Phase;
+import com.cloudbees.sdk.extensibility.jfr.ExtensionBindingEvent;
+import com.cloudbees.sdk.extensibility.jfr.ExtensionDiscoveryEvent;
+import com.cloudbees.sdk.extensibility.jfr.IndexReadEvent;
 import com.google.inject.AbstractModule;
+import com.google.inject.Injector;
+import com.google.inject.Key;
 import com.google.inject.Module;
+import com.google.inject.name.Names;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.UncheckedIOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.jvnet.hudson.annotation_indexer.Index;
 import org.jvnet.hudson.annotation_indexer.Indexed;
@@ -36,6 +61,28 @@ import org.jvnet.hudson.annotation_indexer.Indexed;
 public class ExtensionFinder extends AbstractModule {
     private final ClassLoader cl;
 
+    private boolean usePrecomputedIndex;
+
+    private boolean deferClassLoading;
+
+    private Executor classLoadingExecutor;
+
+    private final List<DiscoveryListener> listeners = new ArrayList<>();
+
+    private Injector parent;
+
+    private DiscoveryCache cache;
+
+    /**
+     * While {@link #cache} is being populated, the extensions discovered so far.
+     */
+    private List<IndexedExtension> discovered;
+
+    /**
+     * Receives every class that the discovery touches, for {@link ClassDataSharing}.
+     */
+    Consumer<Class<?>> classTracer;
+
     /**
      * @param cl
      *      ClassLoader to find extensions from.
@@ -44,18 +91,183 @@ public class ExtensionFinder extends AbstractModule {
         this.cl = cl;
     }
 
+    /**
+     * Discovers extensions from the index that {@link ExtensionIndexProcessor} generates at compile time,
+     * instead of scanning {@link ExtensionImplementation} annotations and reflecting over the class hierarchy
+     * of every extension.
+     * <p>
+     * Only extensions in jars that were compiled with this library on the annotation processor path
+     * are found in this mode.
+     *
+     * @return this
+     */
+    public ExtensionFinder usePrecomputedIndex() {
+        this.usePrecomputedIndex = true;
+        return this;
+    }
+
+    /**
+     * Binds extensions straight from the {@linkplain #usePrecomputedIndex() precomputed index} without loading
+     * their classes. Each implementation class is only loaded, linked, and instantiated when the extension is
+     * first requested, so a process that never looks at an extension point never pays for its extensions.
+     * <p>
+     * Extensions whose extension point has a custom {@link ExtensionPoint#loader()}, such as {@link ExtensionModule},
+     * and extensions whose qualifier could not be recorded in the index are still loaded eagerly.
+     * {@link #bind(Class, Class)} is not consulted for the deferred extensions.
+     * This mode implies {@link #usePrecomputedIndex()}.
+     *
+     * @return this
+     */
+    public ExtensionFinder deferClassLoading() {
+        this.usePrecomputedIndex = true;
+        this.deferClassLoading = true;
+        return this;
+    }
+
+    /**
+     * Loads the discovered extension classes concurrently on the given executor,
+     * such as {@link ForkJoinPool#commonPool()} or a virtual thread executor.
+     * <p>
+     * Classes are only loaded, not initialized, on the executor, and the bindings are still registered
+     * in the order in which the extensions are listed in the index, so the resulting injector is the same.
+     * This only pays off when the {@link ClassLoader} is parallel capable.
+     *
+     * @return this
+     */
+    public ExtensionFinder loadClassesWith(Executor executor) {
+        this.classLoadingExecutor = executor;
+        return this;
+    }
+
+    /**
+     * Only discovers the extensions that the {@link ClassLoader} of this finder adds on top of the given injector,
+     * for building a child injector when a plugin is loaded:
+     *
+     * <pre>
+     * Injector child = parent.createChildInjector(new ExtensionFinder(pluginClassLoader).childOf(parent));
+     * </pre>
+     *
+     * Only the indices in the jars of the class loader itself are read, classes defined by its ancestors
+     * are skipped, and so are extensions already bound in the parent injector. This way adding a plugin
+     * costs time in proportion to the plugin, and {@link ExtensionList#list(Injector)} on the child injector
+     * doesn't see the same extension from both injectors.
+     * <p>
+     * An {@link ExtensionList} that is injected is a just-in-time binding, which Guice creates in the parent
+     * injector even when it's requested from the child, so it only sees the child's extensions once the child
+     * is {@linkplain ExtensionRegistry#attach(Injector) attached}. {@link ExtensionRegistry#install(ClassLoader)}
+     * does both.
+     *
+     * @return this
+     */
+    public ExtensionFinder childOf(Injector parent) {
+        this.parent = parent;
+        return this;
+    }
+
+    /**
+     * Saves the result of the discovery to the given file, and skips the discovery altogether in later runs
+     * as long as none of the jars and directories visible to the {@link ClassLoader} have changed.
+     * <p>
+     * This helps processes that start often against the same set of plugins, such as command line tools.
+     * If the classpath can't be determined, for example because of a custom class loader,
+     * the discovery runs every time.
+     *
+     * @return this
+     */
+    public ExtensionFinder cacheIn(Path file) {
+        this.cache = new DiscoveryCache(file);
+        return this;
+    }
+
+    /**
+     * Reports the time spent discovering and binding each extension to the given listener,
+     * such as a {@link DiscoveryReport}.
+     *
+     * @return this
+     */
+    public ExtensionFinder addListener(DiscoveryListener listener) {
+        listeners.add(listener);
+        return this;
+    }
+
     @Override
     protected void configure() {
+        if (cache == null) {
+            discover();
+            return;
+        }
+        byte[] fingerprint = null;
+        try {
+            long start = System.nanoTime();
+            IndexReadEvent event = new IndexReadEvent();
+            event.begin();
+            fingerprint = DiscoveryCache.fingerprint(cl, "index=" + usePrecomputedIndex + ",child=" + (parent != null));
+            List<IndexedExtension> cached = fingerprint == null ? null : cache.read(fingerprint);
+            if (cached != null) {
+                fire(Phase.INDEX, DiscoveryCache.class.getName(), start);
+                commit(event, DiscoveryCache.class.getName(), cached.size());
+                bindIndexed(cached);
+                return;
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to read the discovery cache", e);
+        }
+        if (fingerprint == null) {
+            discover();
+            return;
+        }
+        discovered = new ArrayList<>();
+        try {
+            discover();
+            cache.write(fingerprint, discovered);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to write the discovery cache", e);
+        } finally {
+            discovered = null;
+        }
+    }
+
+    private void discover() {
+        if (usePrecomputedIndex) {
+            configureFromIndex();
+            return;
+        }
+        // listeners time reading the index separately from loading classes, which takes reading it by name
+        if (classLoadingExecutor != null || !listeners.isEmpty() || parent != null) {
+            configureByName();
+            return;
+        }
         try {
             // find all extensions
-            Set<Class> seen = new HashSet<>();
+            IndexReadEvent event = new IndexReadEvent();
+            event.begin();
+            List<Class<?>> annotations = new ArrayList<>();
             for (Class<?> a : Index.list(ExtensionImplementation.class, cl, Class.class)) {
                 if (!a.isAnnotationPresent(Indexed.class)) {
                     throw new AssertionError(a + " has @ExtensionImplementation but not @Indexed");
                 }
+                annotations.add(a);
+            }
+            commit(event, ExtensionImplementation.class.getName(), annotations.size());
+
+            Set<Class> seen = new HashSet<>();
+            for (Class<?> a : annotations) {
+                // Index.list() loads the classes as it reads the index, so the event covers both
+                event = new IndexReadEvent();
+                event.begin();
+                List<Class> listed = new ArrayList<>();
                 for (Class c : Index.list(a.asSubclass(Annotation.class), cl, Class.class)) {
+                    listed.add(c);
+                }
+                commit(event, a.getName(), listed.size());
+                for (Class c : listed) {
                     if (seen.add(c)) { // ... so that we don't bind the same class twice
-                        for (Class ext : listExtensionPoint(c, new HashSet<>())) {
+                        ExtensionDiscoveryEvent discovery = new ExtensionDiscoveryEvent();
+                        discovery.begin();
+                        Set<Class<?>> eps = ExtensionPoints.of(c);
+                        commit(discovery, c.getName(), eps.size());
+                        record(c, eps);
+                        for (Class ext : eps) {
                             bind(c, ext);
                         }
                     }
@@ -66,13 +278,348 @@ public class ExtensionFinder extends AbstractModule {
         }
     }
 
+    /**
+     * Same as the default discovery, except that the index is read as class names,
+     * so that the classes can be loaded all at once by {@link #loadClasses(List)},
+     * and so that reading the index and loading classes can be timed separately.
+     */
+    private void configureByName() {
+        try {
+            long start = System.nanoTime();
+            IndexReadEvent event = new IndexReadEvent();
+            event.begin();
+            List<Class<?>> annotations = new ArrayList<>();
+            for (Class<?> a : Index.list(ExtensionImplementation.class, cl, Class.class)) {
+                if (!a.isAnnotationPresent(Indexed.class)) {
+                    throw new AssertionError(a + " has @ExtensionImplementation but not @Indexed");
+                }
+                annotations.add(a);
+            }
+            fire(Phase.INDEX, ExtensionImplementation.class.getName(), start);
+            commit(event, ExtensionImplementation.class.getName(), annotations.size());
+
+            // the annotations that list each class, to be checked like Index.list() does
+            Map<String, List<Class<? extends Annotation>>> names = new LinkedHashMap<>();
+            for (Class<?> a : annotations) {
+                start = System.nanoTime();
+                event = new IndexReadEvent();
+                event.begin();
+                Set<String> listed = listClassNames(a.asSubclass(Annotation.class));
+                for (String name : listed) {
+                    names.computeIfAbsent(name, k -> new ArrayList<>()).add(a.asSubclass(Annotation.class));
+                }
+                fire(Phase.INDEX, a.getName(), start);
+                commit(event, a.getName(), listed.size());
+            }
+            for (Class c : loadClasses(new ArrayList<>(names.keySet()))) {
+                if (c != null && isAnnotated(c, names.get(c.getName())) && isNew(c)) {
+                    start = System.nanoTime();
+                    ExtensionDiscoveryEvent discovery = new ExtensionDiscoveryEvent();
+                    discovery.begin();
+                    Set<Class<?>> eps = ExtensionPoints.of(c);
+                    fire(Phase.EXTENSION_POINTS, c.getName(), start);
+                    commit(discovery, c.getName(), eps.size());
+                    record(c, eps);
+                    for (Class ext : eps) {
+                        bind(c, ext);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new Error(e); // fatal problem
+        }
+    }
+
+    /**
+     * Checks that the class has one of the annotations whose index listed it, as {@link Index#list} does,
+     * since an index may be stale.
+     */
+    private static boolean isAnnotated(Class<?> c, List<Class<? extends Annotation>> annotations) {
+        for (Class<? extends Annotation> a : annotations) {
+            if (c.isAnnotationPresent(a)) {
+                return true;
+            }
+        }
+        LOGGER.log(
+                Level.FINE,
+                "{0} is listed in the index but isn''t annotated with any of {1}",
+                new Object[] {c, annotations});
+        return false;
+    }
+
+    private void configureFromIndex() {
+        List<IndexedExtension> extensions;
+        long start = System.nanoTime();
+        IndexReadEvent event = new IndexReadEvent();
+        event.begin();
+        try {
+            extensions = IndexedExtension.list(getResources(IndexedExtension.RESOURCE), new HashSet<>());
+        } catch (IOException e) {
+            throw new Error(e); // fatal problem
+        }
+        fire(Phase.INDEX, IndexedExtension.RESOURCE, start);
+        commit(event, IndexedExtension.RESOURCE, extensions.size());
+        if (discovered != null) {
+            discovered.addAll(extensions);
+        }
+        bindIndexed(extensions);
+    }
+
+    /**
+     * Binds extensions whose extension points are already known.
+     */
+    private void bindIndexed(List<IndexedExtension> extensions) {
+        long start;
+        if (deferClassLoading) {
+            extensions = bindDeferred(extensions);
+        }
+        List<String> names = new ArrayList<>();
+        for (IndexedExtension e : extensions) {
+            names.add(e.impl);
+        }
+        List<Class<?>> classes = loadClasses(names);
+        for (int i = 0; i < extensions.size(); i++) {
+            IndexedExtension e = extensions.get(i);
+            Class c = classes.get(i);
+            if (c == null || !isNew(c)) {
+                continue;
+            }
+            start = System.nanoTime();
+            ExtensionDiscoveryEvent discovery = new ExtensionDiscoveryEvent();
+            discovery.begin();
+            List<Class> eps = new ArrayList<>();
+            for (String ep : e.extensionPoints) {
+                try {
+                    eps.add(cl.loadClass(ep));
+                } catch (ClassNotFoundException | LinkageError x) {
+                    LOGGER.log(Level.FINE, "Failed to load extension point " + ep + " of " + e.impl, x);
+                }
+            }
+            fire(Phase.EXTENSION_POINTS, e.impl, start);
+            commit(discovery, e.impl, eps.size());
+            for (Class ep : eps) {
+                bind(c, ep);
+            }
+        }
+    }
+
+    /**
+     * Binds as many extensions as possible without loading their classes.
+     *
+     * @return
+     *      the extensions that need to be loaded eagerly.
+     */
+    private List<IndexedExtension> bindDeferred(List<IndexedExtension> extensions) {
+        List<IndexedExtension> eager = new ArrayList<>();
+        for (IndexedExtension e : extensions) {
+            long start = System.nanoTime();
+            ExtensionDiscoveryEvent discovery = new ExtensionDiscoveryEvent();
+            discovery.begin();
+            if (e.qualifier != null && e.qualifierValues == null) {
+                eager.add(e);
+                continue;
+            }
+            List<Class<?>> eps = new ArrayList<>();
+            Annotation qa;
+            try {
+                for (String ep : e.extensionPoints) {
+                    eps.add(cl.loadClass(ep));
+                }
+                qa = e.qualifier == null
+                        ? Names.named(e.impl)
+                        : AnnotationLiteral.canonical(
+                                cl.loadClass(e.qualifier).asSubclass(Annotation.class),
+                                new HashMap<String, Object>(e.qualifierValues));
+            } catch (ClassNotFoundException | LinkageError x) {
+                LOGGER.log(Level.FINE, "Failed to load the extension point or qualifier of " + e.impl, x);
+                continue;
+            }
+            if (eps.stream().anyMatch(ExtensionFinder::hasCustomLoader)) {
+                eager.add(e);
+                continue;
+            }
+            fire(Phase.EXTENSION_POINTS, e.impl, start);
+            commit(discovery, e.impl, eps.size());
+            start = System.nanoTime();
+            trace(qa.annotationType());
+            eps.forEach(this::trace);
+            List<Class<?>> unbound = new ArrayList<>();
+            List<ExtensionBindingEvent> bindings = new ArrayList<>();
+            for (Class<?> ep : eps) {
+                if (parent == null || parent.getExistingBinding(Key.get(ep, qa)) == null) {
+                    ExtensionBindingEvent binding = new ExtensionBindingEvent();
+                    binding.begin();
+                    unbound.add(ep);
+                    bindings.add(binding);
+                }
+            }
+            if (!unbound.isEmpty()) {
+                boolean bindImplementation = parent == null
+                        || parent.getExistingBinding(DeferredExtensionModule.implementationKey(e.impl)) == null;
+                install(new DeferredExtensionModule(
+                        unbound, qa, cl, e.impl, bindImplementation, ExtensionScope.of(eps)));
+                for (int i = 0; i < unbound.size(); i++) {
+                    commit(bindings.get(i), e.impl, unbound.get(i), DeferredExtensionModule.class);
+                }
+            }
+            fire(Phase.CONFIGURE, e.impl, start);
+        }
+        return eager;
+    }
+
+    private void record(Class<?> c, Set<Class<?>> extensionPoints) {
+        if (discovered != null && !extensionPoints.isEmpty()) {
+            discovered.add(IndexedExtension.of(c, extensionPoints));
+        }
+    }
+
+    /**
+     * In the {@linkplain #childOf(Injector) child} mode, checks if the extension is defined by our class loader
+     * and isn't bound in the parent injector yet.
+     */
+    private boolean isNew(Class<?> c) {
+        return parent == null || (c.getClassLoader() == cl && parent.getExistingBinding(Key.get(c)) == null);
+    }
+
+    /**
+     * Finds the resources of the given name, leaving out those that come from the parent class loader
+     * in the {@linkplain #childOf(Injector) child} mode.
+     */
+    private List<URL> getResources(String name) throws IOException {
+        List<URL> r = Collections.list(cl.getResources(name));
+        if (parent != null && cl.getParent() != null) {
+            // compare by string because URL.equals() may resolve host names
+            Set<String> inherited = new HashSet<>();
+            for (URL u : Collections.list(cl.getParent().getResources(name))) {
+                inherited.add(u.toExternalForm());
+            }
+            r.removeIf(u -> inherited.contains(u.toExternalForm()));
+        }
+        return r;
+    }
+
+    private static boolean hasCustomLoader(Class<?> extensionPoint) {
+        ExtensionPoint ep = extensionPoint.getAnnotation(ExtensionPoint.class);
+        return ep != null && ep.loader() != ExtensionLoaderModule.Default.class;
+    }
+
+    /**
+     * Lists up the names of the classes annotated with the given {@link Indexed} annotation,
+     * without loading them.
+     */
+    private Set<String> listClassNames(Class<? extends Annotation> type) throws IOException {
+        Set<String> r = new LinkedHashSet<>();
+        for (URL url : getResources("META-INF/annotations/" + type.getName())) {
+            try (BufferedReader in =
+                    new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    line = line.trim();
+                    if (!line.isEmpty()) {
+                        r.add(line);
+                    }
+                }
+            }
+        }
+        return r;
+    }
+
+    /**
+     * Loads the given classes, concurrently if {@link #loadClassesWith(Executor)} is set.
+     *
+     * @return
+     *      classes in the same order as the names, with null for those that failed to load.
+     */
+    private List<Class<?>> loadClasses(List<String> names) {
+        List<Class<?>> r = new ArrayList<>(names.size());
+        if (classLoadingExecutor == null) {
+            for (String name : names) {
+                r.add(loadClass(name));
+            }
+            return r;
+        }
+        List<CompletableFuture<Class<?>>> futures = new ArrayList<>(names.size());
+        for (String name : names) {
+            futures.add(CompletableFuture.supplyAsync(() -> loadClass(name), classLoadingExecutor));
+        }
+        for (CompletableFuture<Class<?>> f : futures) {
+            r.add(f.join());
+        }
+        return r;
+    }
+
+    private Class<?> loadClass(String name) {
+        long start = System.nanoTime();
+        try {
+            return trace(Class.forName(name, false, cl));
+        } catch (ClassNotFoundException | LinkageError e) {
+            LOGGER.log(Level.FINE, "Failed to load " + name, e);
+            return null;
+        } finally {
+            fire(Phase.CLASS_LOADING, name, start);
+        }
+    }
+
+    private <C extends Class<?>> C trace(C c) {
+        if (classTracer != null) {
+            classTracer.accept(c);
+        }
+        return c;
+    }
+
+    private static void commit(IndexReadEvent event, String index, int entries) {
+        if (event.shouldCommit()) {
+            event.index = index;
+            event.entries = entries;
+            event.commit();
+        }
+    }
+
+    private static void commit(ExtensionDiscoveryEvent event, String extension, int extensionPoints) {
+        if (event.shouldCommit()) {
+            event.extension = extension;
+            event.extensionPoints = extensionPoints;
+            event.commit();
+        }
+    }
+
+    private static void commit(
+            ExtensionBindingEvent event, String extension, Class<?> extensionPoint, Class<?> module) {
+        if (event.shouldCommit()) {
+            event.extension = extension;
+            event.extensionPoint = extensionPoint.getName();
+            event.module = module;
+            event.commit();
+        }
+    }
+
+    private void fire(Phase phase, String subject, long start) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        Duration d = Duration.ofNanos(System.nanoTime() - start);
+        for (DiscoveryListener l : listeners) {
+            l.onTimed(phase, subject, d);
+        }
+    }
+
     /**
      * Allows the subtype to be selective about what to bind.
      */
     protected <T> void bind(Class<? extends T> impl, Class<T> extensionPoint) {
+        long start = System.nanoTime();
+        ExtensionBindingEvent event = new ExtensionBindingEvent();
+        event.begin();
         ExtensionLoaderModule<T> lm = createLoaderModule(extensionPoint);
         lm.init(impl, extensionPoint);
+        trace(impl);
+        trace(extensionPoint);
+        trace(lm.getClass());
+        fire(Phase.LOADER_MODULE, impl.getName(), start);
+        start = System.nanoTime();
         install(lm);
+        fire(Phase.CONFIGURE, impl.getName(), start);
+        commit(event, impl.getName(), extensionPoint, lm.getClass());
     }
 
     /**
@@ -110,22 +657,5 @@ public class ExtensionFinder extends AbstractModule {
         return new ExtensionLoaderModule.Default<>();
     }
 
-    /**
-     * Finds all the supertypes that are annotated with {@link ExtensionPoint}.
-     */
-    private Set<Class> listExtensionPoint(Class e, Set<Class> result) {
-        if (e.isAnnotationPresent(ExtensionPoint.class)) {
-            result.add(e);
-        }
-        Class s = e.getSuperclass();
-        if (s != null) {
-            listExtensionPoint(s, result);
-        }
-        for (Class c : e.getInterfaces()) {
-            listExtensionPoint(c, result);
-        }
-        return result;
-    }
-
     private static final Logger LOGGER = Logger.getLogger(ExtensionFinder.class.getName());
 }
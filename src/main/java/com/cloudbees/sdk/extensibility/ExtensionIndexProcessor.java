@@ -0,0 +1,236 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cloudbees.sdk.extensibility;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import org.kohsuke.metainf_services.MetaInfServices;
+
+/**
+ * Generates the extension index that {@link ExtensionFinder#usePrecomputedIndex()} reads,
+ * so that the extension points of each extension are resolved at compile time rather than
+ * by reflecting over the class hierarchy at runtime.
+ *
+ * <p>
+ * This processor also rejects annotations that have {@link ExtensionImplementation} but
+ * not {@code @Indexed}, which would otherwise only be caught when the injector is created.
+ *
+ * @see IndexedExtension
+ */
+@MetaInfServices(Processor.class)
+public class ExtensionIndexProcessor extends AbstractProcessor {
+    private static final String EXTENSION_IMPLEMENTATION = ExtensionImplementation.class.getName();
+    private static final String EXTENSION_POINT = ExtensionPoint.class.getName();
+    private static final String INDEXED = "org.jvnet.hudson.annotation_indexer.Indexed";
+    private static final Set<String> QUALIFIERS =
+            Set.of("jakarta.inject.Qualifier", "javax.inject.Qualifier", "com.google.inject.BindingAnnotation");
+
+    /**
+     * Extensions found so far, keyed by the binary name of the implementation.
+     */
+    private final Map<String, IndexedExtension> extensions = new LinkedHashMap<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of("*");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latest();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            write();
+            return false;
+        }
+        for (TypeElement t : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            scan(t);
+        }
+        return false;
+    }
+
+    private void scan(TypeElement t) {
+        if (t.getKind() == ElementKind.ANNOTATION_TYPE
+                && hasAnnotation(t, EXTENSION_IMPLEMENTATION)
+                && !hasAnnotation(t, INDEXED)) {
+            error(t + " has @ExtensionImplementation but not @Indexed", t, null);
+        }
+        for (AnnotationMirror a : t.getAnnotationMirrors()) {
+            TypeElement at = (TypeElement) a.getAnnotationType().asElement();
+            if (hasAnnotation(at, EXTENSION_IMPLEMENTATION)) {
+                if (!hasAnnotation(at, INDEXED)) {
+                    error(at + " has @ExtensionImplementation but not @Indexed", t, a);
+                } else {
+                    record(t);
+                }
+                break;
+            }
+        }
+        for (TypeElement nested : ElementFilter.typesIn(t.getEnclosedElements())) {
+            scan(nested);
+        }
+    }
+
+    private void record(TypeElement t) {
+        Set<String> eps = new LinkedHashSet<>();
+        listExtensionPoint(t.asType(), eps, new HashSet<>());
+        if (eps.isEmpty()) {
+            return;
+        }
+
+        String qualifier = null;
+        Map<String, String> values = null;
+        for (AnnotationMirror a : t.getAnnotationMirrors()) {
+            TypeElement at = (TypeElement) a.getAnnotationType().asElement();
+            if (QUALIFIERS.stream().anyMatch(q -> hasAnnotation(at, q))) {
+                qualifier = binaryName(at);
+                values = new LinkedHashMap<>();
+                for (Entry<? extends ExecutableElement, ? extends AnnotationValue> e : processingEnv
+                        .getElementUtils()
+                        .getElementValuesWithDefaults(a)
+                        .entrySet()) {
+                    Object v = e.getValue().getValue();
+                    if (!(v instanceof String)) {
+                        values = null; // can't be represented in the index
+                        break;
+                    }
+                    values.put(e.getKey().getSimpleName().toString(), (String) v);
+                }
+                break;
+            }
+        }
+
+        String impl = binaryName(t);
+        extensions.put(impl, new IndexedExtension(impl, new ArrayList<>(eps), qualifier, values));
+    }
+
+    /**
+     * Compile-time counterpart of {@link ExtensionPoints#of(Class)}.
+     */
+    private void listExtensionPoint(TypeMirror type, Set<String> result, Set<String> visited) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return;
+        }
+        TypeElement e = (TypeElement) ((DeclaredType) type).asElement();
+        String name = binaryName(e);
+        if (!visited.add(name)) {
+            return;
+        }
+        if (hasAnnotation(e, EXTENSION_POINT)) {
+            result.add(name);
+        }
+        for (TypeMirror s : processingEnv.getTypeUtils().directSupertypes(type)) {
+            listExtensionPoint(s, result, visited);
+        }
+    }
+
+    private void write() {
+        if (extensions.isEmpty()) {
+            return;
+        }
+        List<IndexedExtension> all = new ArrayList<>();
+        Set<String> seen = new HashSet<>(extensions.keySet());
+
+        // in incremental compilation, keep what was indexed before for classes that weren't recompiled
+        try {
+            FileObject old =
+                    processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", IndexedExtension.RESOURCE);
+            List<IndexedExtension> previous = new ArrayList<>();
+            IndexedExtension.read(
+                    new InputStreamReader(old.openInputStream(), StandardCharsets.UTF_8), seen, previous);
+            for (IndexedExtension e : previous) {
+                if (processingEnv.getElementUtils().getTypeElement(e.impl.replace('$', '.')) != null) {
+                    all.add(e);
+                }
+            }
+        } catch (FileNotFoundException | NoSuchFileException e) {
+            // no previous index
+        } catch (IOException e) {
+            processingEnv
+                    .getMessager()
+                    .printMessage(Kind.WARNING, "Failed to read the existing " + IndexedExtension.RESOURCE + ": " + e);
+        }
+        all.addAll(extensions.values());
+
+        try {
+            FileObject f = processingEnv
+                    .getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", IndexedExtension.RESOURCE);
+            try (PrintWriter w = new PrintWriter(new OutputStreamWriter(f.openOutputStream(), StandardCharsets.UTF_8))) {
+                for (IndexedExtension e : all) {
+                    w.println(e.format());
+                }
+            }
+        } catch (IOException e) {
+            processingEnv
+                    .getMessager()
+                    .printMessage(Kind.ERROR, "Failed to write " + IndexedExtension.RESOURCE + ": " + e);
+        }
+    }
+
+    private void error(String msg, Element e, AnnotationMirror a) {
+        processingEnv.getMessager().printMessage(Kind.ERROR, msg, e, a);
+    }
+
+    private String binaryName(TypeElement t) {
+        return processingEnv.getElementUtils().getBinaryName(t).toString();
+    }
+
+    private static boolean hasAnnotation(Element e, String annotationType) {
+        for (AnnotationMirror a : e.getAnnotationMirrors()) {
+            if (((TypeElement) a.getAnnotationType().asElement())
+                    .getQualifiedName()
+                    .contentEquals(annotationType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -16,16 +16,39 @@
 
 package com.cloudbees.sdk.extensibility;
 
+import com.cloudbees.sdk.extensibility.jfr.ExtensionListEvent;
 import com.google.inject.Binding;
 import com.google.inject.Injector;
-import com.google.inject.Key;
+import com.google.inject.Provider;
 import com.google.inject.TypeLiteral;
+import com.google.inject.spi.InstanceBinding;
+import com.google.inject.spi.LinkedKeyBinding;
+import com.google.inject.spi.ProviderInstanceBinding;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map.Entry;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A component you can inject (via JIT binding) to discover the list of
@@ -41,6 +64,25 @@ import java.util.Map.Entry;
  *     }
  * }
  * </pre>
+ *
+ * <p>
+ * Iterating the list instantiates every extension. When only some of them are needed,
+ * use {@link #providers()}, {@link #stream()} or {@link #findFirst(Predicate)}, which
+ * only instantiate extensions as they are consumed.
+ *
+ * <p>
+ * To call every extension without paying for them one after another, use {@link #parallelStream()},
+ * or {@link #invokeAll(Function, Executor, Duration)}, which also bounds how long the caller waits.
+ *
+ * <p>
+ * These methods list extensions in the order the injector happens to hold them.
+ * Code that dispatches to extensions repeatedly should use {@link #snapshot()} instead,
+ * which is sorted by {@link Ordinal} and computed only once.
+ *
+ * <p>
+ * The list also includes the extensions that are added later through {@link ExtensionRegistry},
+ * and {@link #addListener(ExtensionListListener)} can watch for such changes.
+ *
  * @author Kohsuke Kawaguchi
  */
 @Singleton
@@ -50,6 +92,11 @@ public class ExtensionList<T> implements Iterable<T> {
     @Inject
     private Injector injector;
 
+    @Inject
+    private ExtensionRegistry registry;
+
+    private volatile Snapshot<T> snapshot;
+
     // TODO: if we can inject this like we inject Logger, then
     // we don't need to take injector as a parameter
 
@@ -68,25 +115,425 @@ public class ExtensionList<T> implements Iterable<T> {
      */
     @Override
     public Iterator<T> iterator() {
-        if (injector == null) {
-            throw new IllegalArgumentException();
-        }
-        return list(injector).iterator();
+        return list(injector()).iterator();
+    }
+
+    /**
+     * Splits over the extensions like a list would, instantiating them as they are consumed.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new InstantiatingSpliterator<>(bindings(injector()).spliterator());
     }
 
     /**
      * Returns all the extension implementations in the specified injector.
      */
     public List<T> list(Injector injector) {
+        ExtensionListEvent event = new ExtensionListEvent();
+        event.begin();
         List<T> r = new ArrayList<>();
+        for (Binding<T> b : bindings(injector)) {
+            r.add(b.getProvider().get());
+        }
+        commit(event, r.size());
+        return r;
+    }
 
-        for (Injector i = injector; i != null; i = i.getParent()) {
-            for (Entry<Key<?>, Binding<?>> e : i.getBindings().entrySet()) {
-                if (e.getKey().getTypeLiteral().equals(type)) {
-                    r.add((T) e.getValue().getProvider().get());
-                }
+    /**
+     * Returns the bindings of all the extension implementations in the injector this list is injected into,
+     * without instantiating any of them.
+     */
+    public List<Binding<T>> bindings() {
+        return bindings(injector());
+    }
+
+    /**
+     * Returns the bindings of all the extension implementations in the specified injector,
+     * without instantiating any of them.
+     */
+    public List<Binding<T>> bindings(Injector injector) {
+        List<Binding<T>> r = BindingIndex.bindings(injector, type);
+        ExtensionRegistry registry = injector == this.injector ? this.registry : ExtensionRegistry.of(injector);
+        if (registry != null) {
+            registry.addBindings(injector, type, r);
+        }
+        return r;
+    }
+
+    /**
+     * Returns providers of all the extension implementations in the injector this list is injected into.
+     * An extension is only instantiated when its provider is invoked.
+     */
+    public List<Provider<T>> providers() {
+        return providers(injector());
+    }
+
+    /**
+     * Returns providers of all the extension implementations in the specified injector.
+     * An extension is only instantiated when its provider is invoked.
+     */
+    public List<Provider<T>> providers(Injector injector) {
+        List<Provider<T>> r = new ArrayList<>();
+        for (Binding<T> b : bindings(injector)) {
+            r.add(b.getProvider());
+        }
+        return r;
+    }
+
+    /**
+     * Streams extension implementations in the injector this list is injected into.
+     * Extensions are instantiated as the stream consumes them, so short-circuiting operations
+     * like {@link Stream#findFirst()} don't pay for the rest.
+     */
+    public Stream<T> stream() {
+        return stream(injector());
+    }
+
+    /**
+     * Streams extension implementations in the specified injector, instantiating them as they are consumed.
+     */
+    public Stream<T> stream(Injector injector) {
+        return bindings(injector).stream().map(b -> b.getProvider().get());
+    }
+
+    /**
+     * Streams extension implementations in the injector this list is injected into, in parallel.
+     * Like {@link #stream()}, extensions are instantiated as they are consumed, so both their instantiation
+     * and whatever the stream does with them run on the common {@link java.util.concurrent.ForkJoinPool}.
+     * For calls that block, {@link #invokeAll(Function, Executor, Duration)} is a better fit.
+     */
+    public Stream<T> parallelStream() {
+        return parallelStream(injector());
+    }
+
+    /**
+     * Streams extension implementations in the specified injector, in parallel.
+     */
+    public Stream<T> parallelStream(Injector injector) {
+        return StreamSupport.stream(new InstantiatingSpliterator<>(bindings(injector).spliterator()), true);
+    }
+
+    /**
+     * Calls the given function on every extension in the injector this list is injected into, concurrently.
+     *
+     * @see #invokeAll(Injector, Function, Executor, Duration)
+     */
+    public <R> Invocation<T, R> invokeAll(
+            Function<? super T, ? extends R> function, Executor executor, Duration timeout) {
+        return invokeAll(injector(), function, executor, timeout);
+    }
+
+    /**
+     * Calls the given function on every extension in the specified injector, concurrently,
+     * and waits for them to return.
+     * <p>
+     * Each extension is instantiated and called in its own task, so the caller waits about as long as
+     * the slowest extension, not as long as all of them together. An extension that fails doesn't affect
+     * the others. Extensions that haven't returned by the deadline are reported as timed out, and whatever
+     * they return later is discarded. Their tasks aren't interrupted.
+     *
+     * @param executor
+     *      Executor to call the function on. Its size bounds the number of extensions called at the same time.
+     *      A virtual thread executor works well for functions that block.
+     * @param timeout
+     *      How long to wait for all the extensions to return, or null to wait for as long as it takes.
+     */
+    public <R> Invocation<T, R> invokeAll(
+            Injector injector, Function<? super T, ? extends R> function, Executor executor, Duration timeout) {
+        long begin = System.nanoTime();
+        List<Binding<T>> bindings = bindings(injector);
+        List<CompletableFuture<R>> futures = new ArrayList<>(bindings.size());
+        for (Binding<T> b : bindings) {
+            CompletableFuture<R> f;
+            try {
+                f = CompletableFuture.supplyAsync(() -> function.apply(b.getProvider().get()), executor);
+            } catch (RejectedExecutionException e) {
+                f = CompletableFuture.failedFuture(e);
             }
+            futures.add(f);
         }
+
+        CompletableFuture<Void> all = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+        try {
+            if (timeout == null) {
+                all.get();
+            } else {
+                all.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        } catch (ExecutionException | TimeoutException e) {
+            // failures and stragglers are sorted out below
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // and report whatever hasn't returned as timed out
+        }
+
+        Invocation<T, R> r = new Invocation<>();
+        for (int i = 0; i < futures.size(); i++) {
+            CompletableFuture<R> f = futures.get(i);
+            Binding<T> b = bindings.get(i);
+            if (f.cancel(false)) {
+                r.timedOut.add(b);
+                continue;
+            }
+            try {
+                r.results.put(b, f.join());
+            } catch (CompletionException e) {
+                r.failures.put(b, e.getCause() == null ? e : e.getCause());
+            }
+        }
+        r.total = Duration.ofNanos(System.nanoTime() - begin);
         return r;
     }
+
+    /**
+     * Finds the first extension whose implementation class satisfies the given predicate,
+     * in the injector this list is injected into.
+     * Only the extension that's returned gets instantiated.
+     */
+    public Optional<T> findFirst(Predicate<Class<? extends T>> filter) {
+        return findFirst(injector(), filter);
+    }
+
+    /**
+     * Finds the first extension whose implementation class satisfies the given predicate,
+     * in the specified injector.
+     * Only the extension that's returned gets instantiated.
+     */
+    public Optional<T> findFirst(Injector injector, Predicate<Class<? extends T>> filter) {
+        for (Binding<T> b : bindings(injector)) {
+            if (filter.test(implementationType(b))) {
+                return Optional.of(b.getProvider().get());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns all the extension implementations in the injector this list is injected into,
+     * sorted by their {@link Ordinal}.
+     * <p>
+     * The list is computed on the first call and then shared until the {@link ExtensionRegistry} changes,
+     * so iterating it in a hot loop neither sorts nor copies anything. It's immutable, and backed by an array
+     * so that it can also be walked with {@link List#get(int)}.
+     */
+    public List<T> snapshot() {
+        Object state = registry == null ? null : registry.state();
+        Snapshot<T> s = snapshot;
+        if (s == null || s.state != state) {
+            // two threads might race to compute it, but both produce the same result
+            snapshot = s = new Snapshot<>(state, snapshot(injector()));
+        }
+        return s.list;
+    }
+
+    /**
+     * Returns all the extension implementations in the specified injector, sorted by their {@link Ordinal}.
+     * Unlike {@link #snapshot()}, this computes a new list every time, so callers should keep it.
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> snapshot(Injector injector) {
+        ExtensionListEvent event = new ExtensionListEvent();
+        event.begin();
+        List<Binding<T>> bindings = bindings(injector);
+        Map<Binding<T>, Class<?>> types = new IdentityHashMap<>();
+        for (Binding<T> b : bindings) {
+            types.put(b, implementationType(b));
+        }
+        bindings.sort(Comparator.comparingDouble((Binding<T> b) -> ordinal(types.get(b)))
+                .reversed()
+                .thenComparing(b -> types.get(b).getName()));
+
+        Object[] r = new Object[bindings.size()];
+        for (int i = 0; i < r.length; i++) {
+            r[i] = bindings.get(i).getProvider().get();
+        }
+        commit(event, r.length);
+        return (List<T>) List.of(r);
+    }
+
+    /**
+     * Registers a listener that's notified when extensions are added or removed
+     * through the {@link ExtensionRegistry} of the injector this list is injected into.
+     */
+    public void addListener(ExtensionListListener<T> l) {
+        registry().addListener(type, l);
+    }
+
+    public void removeListener(ExtensionListListener<T> l) {
+        registry().removeListener(type, l);
+    }
+
+    private ExtensionRegistry registry() {
+        if (registry == null) {
+            throw new IllegalArgumentException();
+        }
+        return registry;
+    }
+
+    /**
+     * Outcome of {@link ExtensionList#invokeAll(Function, Executor, Duration)}.
+     * Each extension ends up in exactly one of {@link #getResults()}, {@link #getFailures()}
+     * and {@link #getTimedOut()}, all of which list extensions in the order of {@link #bindings()}.
+     */
+    public static final class Invocation<T, R> {
+        private final Map<Binding<T>, R> results = new LinkedHashMap<>();
+        private final Map<Binding<T>, Throwable> failures = new LinkedHashMap<>();
+        private final List<Binding<T>> timedOut = new ArrayList<>();
+        private Duration total;
+
+        private Invocation() {}
+
+        /**
+         * What each extension that returned in time returned, which might be null.
+         */
+        public Map<Binding<T>, R> getResults() {
+            return Collections.unmodifiableMap(results);
+        }
+
+        /**
+         * Extensions that failed to instantiate or threw an exception, and what they threw.
+         */
+        public Map<Binding<T>, Throwable> getFailures() {
+            return Collections.unmodifiableMap(failures);
+        }
+
+        /**
+         * Extensions that were still running when the deadline passed.
+         */
+        public List<Binding<T>> getTimedOut() {
+            return Collections.unmodifiableList(timedOut);
+        }
+
+        /**
+         * True if every extension returned in time.
+         */
+        public boolean isClean() {
+            return failures.isEmpty() && timedOut.isEmpty();
+        }
+
+        /**
+         * How long the caller waited.
+         */
+        public Duration getTotal() {
+            return total;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder b = new StringBuilder("Invoked ")
+                    .append(results.size() + failures.size() + timedOut.size())
+                    .append(" extensions in ")
+                    .append(total.toMillis())
+                    .append("ms");
+            if (!failures.isEmpty()) {
+                b.append("\n  failed: ").append(names(failures.keySet()));
+            }
+            if (!timedOut.isEmpty()) {
+                b.append("\n  timed out: ").append(names(timedOut));
+            }
+            return b.toString();
+        }
+
+        private static List<String> names(Iterable<? extends Binding<?>> bindings) {
+            List<String> r = new ArrayList<>();
+            for (Binding<?> b : bindings) {
+                r.add(implementationType(b).getName());
+            }
+            return r;
+        }
+    }
+
+    /**
+     * Instantiates extensions as the underlying {@link Spliterator} of bindings hands them out,
+     * splitting the same way, so that a parallel stream divides the work evenly between threads.
+     */
+    private static final class InstantiatingSpliterator<T> implements Spliterator<T> {
+        private final Spliterator<Binding<T>> bindings;
+
+        InstantiatingSpliterator(Spliterator<Binding<T>> bindings) {
+            this.bindings = bindings;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            return bindings.tryAdvance(b -> action.accept(b.getProvider().get()));
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            bindings.forEachRemaining(b -> action.accept(b.getProvider().get()));
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            Spliterator<Binding<T>> s = bindings.trySplit();
+            return s == null ? null : new InstantiatingSpliterator<>(s);
+        }
+
+        @Override
+        public long estimateSize() {
+            return bindings.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return bindings.characteristics() & (ORDERED | SIZED | SUBSIZED);
+        }
+    }
+
+    private static final class Snapshot<T> {
+        /**
+         * {@link ExtensionRegistry#state()} the list was computed for.
+         */
+        final Object state;
+
+        final List<T> list;
+
+        Snapshot(Object state, List<T> list) {
+            this.state = state;
+            this.list = list;
+        }
+    }
+
+    private void commit(ExtensionListEvent event, int count) {
+        if (event.shouldCommit()) {
+            event.type = type.toString();
+            event.count = count;
+            event.commit();
+        }
+    }
+
+    private static double ordinal(Class<?> type) {
+        Ordinal o = type.getAnnotation(Ordinal.class);
+        return o == null ? 0 : o.value();
+    }
+
+    private Injector injector() {
+        if (injector == null) {
+            throw new IllegalArgumentException();
+        }
+        return injector;
+    }
+
+    /**
+     * Determines the class that implements the extension, without instantiating it if at all possible.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Class<? extends T> implementationType(Binding<T> b) {
+        if (b instanceof LinkedKeyBinding) {
+            // this is how ExtensionLoaderModule.Default binds an extension
+            return (Class<? extends T>) ((LinkedKeyBinding<T>) b).getLinkedKey().getTypeLiteral().getRawType();
+        }
+        if (b instanceof ProviderInstanceBinding) {
+            Object p = ((ProviderInstanceBinding<T>) b).getUserSuppliedProvider();
+            if (p instanceof DeferredExtensionModule.DeferredProvider) {
+                // loads the class, but doesn't instantiate it
+                return ((DeferredExtensionModule.DeferredProvider<T>) p).type();
+            }
+        }
+        if (b instanceof InstanceBinding) {
+            return (Class<? extends T>) ((InstanceBinding<T>) b).getInstance().getClass();
+        }
+        return (Class<? extends T>) b.getKey().getTypeLiteral().getRawType();
+    }
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cloudbees.sdk.extensibility;
+
+import com.google.inject.Binding;
+import java.util.List;
+
+/**
+ * Notified when extensions of an extension point are added to or removed from the {@link ExtensionRegistry}.
+ *
+ * @see ExtensionList#addListener(ExtensionListListener)
+ */
+@FunctionalInterface
+public interface ExtensionListListener<T> {
+    /**
+     * Called after the extensions have changed.
+     * By the time this is called, {@link ExtensionList} already reflects the change.
+     *
+     * @param added
+     *      Bindings of the extensions that were added, possibly empty.
+     * @param removed
+     *      Bindings of the extensions that were removed, possibly empty.
+     */
+    void onChange(List<Binding<T>> added, List<Binding<T>> removed);
+}
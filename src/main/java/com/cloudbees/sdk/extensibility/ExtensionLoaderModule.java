@@ -21,7 +21,7 @@ import com.google.inject.Binding;
 import com.google.inject.BindingAnnotation;
 import com.google.inject.Injector;
 import com.google.inject.Key;
-import jakarta.inject.Named;
+import com.google.inject.name.Names;
 import jakarta.inject.Qualifier;
 import java.lang.annotation.Annotation;
 
@@ -73,19 +73,25 @@ public abstract class ExtensionLoaderModule<T> extends AbstractModule {
      * Command cmd = injector.getBinding(Key.get(Command.class,AnnotationLiteral.of(CLICommand.class,"acme"))
      * </pre>
      *
+     * or, for repeated lookups, through {@link ExtensionMap}.
+     *
      * If no binding annotation is present, this implementation creates a unique binding
      * annotation, so that at least it can be looked up via {@link ExtensionPointList}.
+     * <p>
+     * The implementation is bound in the {@linkplain ExtensionPoint#scope() scope} that its extension points ask for.
      */
     static class Default<T> extends ExtensionLoaderModule<T> {
         @Override
         protected void configure() {
             Annotation qa = findQualifierAnnotation(impl);
             if (qa == null) {
-                // this is just to make it unique among others that implement the same contract
-                qa = AnnotationLiteral.of(Named.class, impl.getName());
+                // this is just to make it unique among others that implement the same contract.
+                // Guice would turn any other @Named into this one anyway
+                qa = Names.named(impl.getName());
             }
             binder().withSource(impl).bind(Key.get(extensionPoint, qa)).to(impl);
-            bind(impl);
+            // every extension point of the implementation produces the same binding, which Guice deduplicates
+            ExtensionScope.forImplementation(impl).applyTo(bind(impl));
         }
 
         private <T> Annotation findQualifierAnnotation(Class<? extends T> impl) {
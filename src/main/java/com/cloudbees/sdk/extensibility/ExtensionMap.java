@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cloudbees.sdk.extensibility;
+
+import com.google.inject.Binding;
+import com.google.inject.Injector;
+import com.google.inject.TypeLiteral;
+import com.google.inject.name.Named;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Looks up extensions by the name in their qualifier annotation.
+ *
+ * <p>
+ * Given the qualifier from the {@link ExtensionLoaderModule.Default} example:
+ *
+ * <pre>
+ * &#64;Inject
+ * ExtensionMap&lt;CLICommand, Command&gt; commands;
+ *
+ * Command cmd = commands.get("acme");
+ * </pre>
+ *
+ * The map is computed once from the keys of the bindings, so a lookup is a single hash table access,
+ * without creating an annotation or reflecting over it. The name is the {@code value()} of the annotation
+ * unless another member is chosen.
+ * <p>
+ * Guice turns {@code jakarta.inject.Named} and {@code javax.inject.Named} into its own {@link Named},
+ * so any of the three finds the same extensions. Extensions without a qualifier are bound with
+ * a {@code @Named} of their class name, so they show up under that name in such a map.
+ *
+ * @see ExtensionList
+ */
+@Singleton
+public class ExtensionMap<A extends Annotation, T> {
+    /**
+     * The annotation type as it appears in binding keys.
+     */
+    private final Class<? extends Annotation> annotationType;
+    private final TypeLiteral<T> type;
+    private final Method member;
+
+    @Inject
+    private Injector injector;
+
+    @Inject
+    private ExtensionRegistry registry;
+
+    private volatile Table<T> table;
+
+    @Inject
+    @SuppressWarnings("unchecked")
+    public ExtensionMap(TypeLiteral<A> annotationType, TypeLiteral<T> type) {
+        this((Class<A>) annotationType.getRawType(), type, "value");
+    }
+
+    public ExtensionMap(Class<A> annotationType, Class<T> type) {
+        this(annotationType, TypeLiteral.get(type), "value");
+    }
+
+    /**
+     * @param member
+     *      Name of the annotation member that holds the name of the extension.
+     */
+    public ExtensionMap(Class<A> annotationType, TypeLiteral<T> type, String member) {
+        this.annotationType = canonical(annotationType);
+        this.type = type;
+        try {
+            this.member = this.annotationType.getDeclaredMethod(member);
+            this.member.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(annotationType + " has no member " + member, e);
+        }
+    }
+
+    /**
+     * Returns the extension of the given name, or null if there's none.
+     */
+    public T get(String name) {
+        Binding<T> b = table().bindings.get(name);
+        return b == null ? null : b.getProvider().get();
+    }
+
+    /**
+     * Returns the binding of the extension of the given name, without instantiating it, or null if there's none.
+     */
+    public Binding<T> getBinding(String name) {
+        return table().bindings.get(name);
+    }
+
+    /**
+     * Names of all the extensions, in alphabetical order.
+     */
+    public Set<String> keySet() {
+        return table().keys;
+    }
+
+    /**
+     * Returns the bindings of all the extensions in the specified injector by their names.
+     * Unlike the other methods, this computes a new map every time.
+     */
+    public Map<String, Binding<T>> bindings(Injector injector) {
+        return Collections.unmodifiableMap(build(new ExtensionList<>(type).bindings(injector)));
+    }
+
+    /**
+     * Maps the annotation type the same way Guice does when it's used in a {@link com.google.inject.Key}.
+     */
+    private static Class<? extends Annotation> canonical(Class<? extends Annotation> annotationType) {
+        switch (annotationType.getName()) {
+            case "jakarta.inject.Named":
+            case "javax.inject.Named":
+                return Named.class;
+            default:
+                return annotationType;
+        }
+    }
+
+    private Table<T> table() {
+        if (injector == null) {
+            throw new IllegalArgumentException();
+        }
+        Object state = registry.state();
+        Table<T> t = table;
+        if (t == null || t.state != state) {
+            // two threads might race to compute it, but both produce the same result
+            List<Binding<T>> bindings = BindingIndex.bindings(injector, type);
+            registry.addBindings(injector, type, bindings);
+            table = t = new Table<>(state, build(bindings));
+        }
+        return t;
+    }
+
+    private Map<String, Binding<T>> build(List<Binding<T>> bindings) {
+        Map<String, Binding<T>> r = new HashMap<>();
+        for (Binding<T> b : bindings) {
+            Annotation a = b.getKey().getAnnotation();
+            if (!annotationType.isInstance(a)) {
+                continue;
+            }
+            String name;
+            try {
+                name = String.valueOf(member.invoke(a));
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("Failed to read " + member + " of " + a, e);
+            }
+            Binding<T> old = r.putIfAbsent(name, b);
+            if (old != null) {
+                LOGGER.log(
+                        Level.WARNING,
+                        "Both {0} and {1} are named {2}; ignoring the latter",
+                        new Object[] {old.getSource(), b.getSource(), name});
+            }
+        }
+        return r;
+    }
+
+    private static final class Table<T> {
+        /**
+         * {@link ExtensionRegistry#state()} the table was computed for.
+         */
+        final Object state;
+
+        final Map<String, Binding<T>> bindings;
+        final Set<String> keys;
+
+        Table(Object state, Map<String, Binding<T>> bindings) {
+            this.state = state;
+            this.bindings = bindings;
+            this.keys = Collections.unmodifiableSet(new TreeSet<>(bindings.keySet()));
+        }
+    }
+
+    private static final Logger LOGGER = Logger.getLogger(ExtensionMap.class.getName());
+}
@@ -16,6 +16,7 @@
 
 package com.cloudbees.sdk.extensibility;
 
+import com.cloudbees.sdk.extensibility.jfr.ExtensionModuleInstallEvent;
 import com.google.inject.Binder;
 import com.google.inject.Injector;
 import com.google.inject.Module;
@@ -48,6 +49,8 @@ public interface ExtensionModule extends Module {
     class Loader extends ExtensionLoaderModule<ExtensionModule> {
         @Override
         protected void configure() {
+            ExtensionModuleInstallEvent event = new ExtensionModuleInstallEvent();
+            event.begin();
             try {
                 install(impl.getDeclaredConstructor().newInstance());
             } catch (InstantiationException e) {
@@ -70,6 +73,10 @@ public interface ExtensionModule extends Module {
                     throw new Error(e);
                 }
             }
+            if (event.shouldCommit()) {
+                event.module = impl;
+                event.commit();
+            }
         }
     }
 }
@@ -35,4 +35,14 @@ public @interface ExtensionPoint {
      * Controls how the implementations of this extension point is loaded.
      */
     Class<? extends ExtensionLoaderModule> loader() default ExtensionLoaderModule.Default.class;
+
+    /**
+     * Scope of the implementations of this extension point, unless they have a scope annotation of their own.
+     * <p>
+     * Implementations are unscoped by default, so every {@link ExtensionList#list(com.google.inject.Injector)}
+     * creates them anew. Extension points whose implementations are stateless or expensive to create should
+     * ask for {@link ExtensionScope#SINGLETON}. When an implementation has several extension points,
+     * the broadest of their scopes applies. This is only honored by the default {@link #loader()}.
+     */
+    ExtensionScope scope() default ExtensionScope.UNSCOPED;
 }
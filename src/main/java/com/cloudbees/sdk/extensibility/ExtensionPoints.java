@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cloudbees.sdk.extensibility;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Resolves the {@link ExtensionPoint}s that a class implements.
+ * <p>
+ * The result is memoized per class with {@link ClassValue}, so common base types are only walked once
+ * no matter how many extensions derive from them, and the cache is shared by every {@link ExtensionFinder}
+ * and every injector built from the same classes. The cache goes away together with the classes.
+ */
+public final class ExtensionPoints {
+    private static final LongAdder LOOKUPS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+
+    private static final ClassValue<Set<Class<?>>> CACHE = new ClassValue<>() {
+        @Override
+        protected Set<Class<?>> computeValue(Class<?> type) {
+            MISSES.increment();
+            Set<Class<?>> r = new LinkedHashSet<>();
+            if (type.isAnnotationPresent(ExtensionPoint.class)) {
+                r.add(type);
+            }
+            Class<?> s = type.getSuperclass();
+            if (s != null) {
+                r.addAll(of(s));
+            }
+            for (Class<?> i : type.getInterfaces()) {
+                r.addAll(of(i));
+            }
+            return r.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(r);
+        }
+    };
+
+    private ExtensionPoints() {}
+
+    /**
+     * Finds all the supertypes of the given type, including itself, that are annotated with {@link ExtensionPoint}.
+     */
+    public static Set<Class<?>> of(Class<?> type) {
+        LOOKUPS.increment();
+        return CACHE.get(type);
+    }
+
+    /**
+     * Number of lookups that were answered from the cache, including those made while resolving other types.
+     */
+    public static long getCacheHits() {
+        return LOOKUPS.sum() - MISSES.sum();
+    }
+
+    /**
+     * Number of lookups that had to inspect the class.
+     */
+    public static long getCacheMisses() {
+        return MISSES.sum();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cloudbees.sdk.extensibility;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Binding;
+import com.google.inject.matcher.AbstractMatcher;
+import com.google.inject.spi.ProvisionListener;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts how many instances of each extension the injector creates, to find extensions that are
+ * instantiated over and over because they are {@linkplain ExtensionScope#UNSCOPED unscoped}.
+ *
+ * <pre>
+ * ExtensionProvisionCounter counter = new ExtensionProvisionCounter();
+ * Injector i = Guice.createInjector(new ExtensionFinder(cl), counter);
+ * ...
+ * LOGGER.info(counter.toString());
+ * </pre>
+ */
+public class ExtensionProvisionCounter extends AbstractModule {
+    private final Map<Class<?>, LongAdder> counts = new ConcurrentHashMap<>();
+
+    @Override
+    protected void configure() {
+        bindListener(new IsExtension(), new ProvisionListener() {
+            @Override
+            public <T> void onProvision(ProvisionInvocation<T> provision) {
+                T t = provision.provision();
+                if (t != null) {
+                    counts.computeIfAbsent(t.getClass(), k -> new LongAdder()).increment();
+                }
+            }
+        });
+    }
+
+    /**
+     * Number of instances created so far for each extension implementation, most instantiated first.
+     */
+    public Map<Class<?>, Long> getCounts() {
+        Map<Class<?>, Long> r = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()))
+                .forEach(e -> r.put(e.getKey(), e.getValue().sum()));
+        return r;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder b = new StringBuilder("Extension instances created:");
+        for (Entry<Class<?>, Long> e : getCounts().entrySet()) {
+            b.append("\n  ").append(e.getValue()).append(' ').append(e.getKey().getName());
+        }
+        return b.toString();
+    }
+
+    /**
+     * Matches the bindings that instantiate an extension implementation.
+     * The bindings of extension points themselves are left out, as they delegate to the implementation.
+     */
+    private static final class IsExtension extends AbstractMatcher<Binding<?>> {
+        @Override
+        public boolean matches(Binding<?> b) {
+            Class<?> c = b.getKey().getTypeLiteral().getRawType();
+            return !c.isInterface()
+                    && !Modifier.isAbstract(c.getModifiers())
+                    && !c.isAnnotationPresent(ExtensionPoint.class)
+                    && !ExtensionPoints.of(c).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cloudbees.sdk.extensibility;
+
+import com.google.inject.Binding;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.TypeLiteral;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Adds and removes extensions after the injector is created.
+ *
+ * <p>
+ * The bindings of an injector can't change, so extensions are added in a child injector of the injector
+ * this registry lives in, typically one per plugin, which is then attached to this registry:
+ *
+ * <pre>
+ * &#64;Inject
+ * ExtensionRegistry registry;
+ *
+ * Injector plugin = registry.install(pluginClassLoader);
+ * ...
+ * registry.detach(plugin);
+ * </pre>
+ *
+ * Every {@link ExtensionList} in this injector and its descendants lists the extensions of the attached
+ * injectors along with its own. Changes are copy-on-write, so reading an {@link ExtensionList} never blocks.
+ * Detaching an injector doesn't stop its components; the caller is responsible for that.
+ */
+@Singleton
+public class ExtensionRegistry {
+    private static final Key<ExtensionRegistry> KEY = Key.get(ExtensionRegistry.class);
+
+    private final Injector root;
+
+    /**
+     * Attached injectors. Replaced, never modified, so that readers can use it without locking,
+     * and so that {@link ExtensionList} can tell whether anything has changed by its identity.
+     */
+    private volatile Injector[] attached = new Injector[0];
+
+    private final Map<TypeLiteral<?>, List<ExtensionListListener<?>>> listeners = new ConcurrentHashMap<>();
+
+    @Inject
+    public ExtensionRegistry(Injector root) {
+        this.root = root;
+    }
+
+    /**
+     * Discovers the extensions that the given class loader adds, in a new child injector,
+     * and attaches it.
+     *
+     * @return
+     *      the child injector, to be {@linkplain #detach(Injector) detached} later.
+     * @see ExtensionFinder#childOf(Injector)
+     */
+    public Injector install(ClassLoader cl) {
+        Injector child = root.createChildInjector(new ExtensionFinder(cl).childOf(root));
+        attach(child);
+        return child;
+    }
+
+    /**
+     * Adds the extensions bound in the given injector, which should be a descendant of the injector
+     * this registry lives in.
+     */
+    public void attach(Injector child) {
+        synchronized (this) {
+            List<Injector> r = new ArrayList<>(Arrays.asList(attached));
+            if (r.contains(child)) {
+                return;
+            }
+            r.add(child);
+            attached = r.toArray(new Injector[0]);
+        }
+        fireChange(child, true);
+    }
+
+    /**
+     * Removes the extensions that were added by {@link #attach(Injector)}.
+     *
+     * @return
+     *      false if the injector wasn't attached.
+     */
+    public boolean detach(Injector child) {
+        synchronized (this) {
+            List<Injector> r = new ArrayList<>(Arrays.asList(attached));
+            if (!r.remove(child)) {
+                return false;
+            }
+            attached = r.toArray(new Injector[0]);
+        }
+        fireChange(child, false);
+        return true;
+    }
+
+    /**
+     * Currently attached injectors.
+     */
+    public List<Injector> getAttached() {
+        return Collections.unmodifiableList(Arrays.asList(attached));
+    }
+
+    /**
+     * Current state, which changes identity whenever an injector is attached or detached.
+     */
+    Object state() {
+        return attached;
+    }
+
+    /**
+     * Adds the bindings of the attached injectors to the bindings found in the given injector.
+     */
+    <T> void addBindings(Injector injector, TypeLiteral<T> type, List<Binding<T>> r) {
+        for (Injector a : attached) {
+            if (!isInChain(a, injector)) {
+                BindingIndex.addOwnBindings(a, type, r);
+            }
+        }
+    }
+
+    private static boolean isInChain(Injector a, Injector injector) {
+        for (Injector i = injector; i != null; i = i.getParent()) {
+            if (i == a) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    <T> void addListener(TypeLiteral<T> type, ExtensionListListener<T> l) {
+        listeners.computeIfAbsent(type, t -> new CopyOnWriteArrayList<>()).add(l);
+    }
+
+    <T> void removeListener(TypeLiteral<T> type, ExtensionListListener<T> l) {
+        List<ExtensionListListener<?>> ls = listeners.get(type);
+        if (ls != null) {
+            ls.remove(l);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void fireChange(Injector child, boolean added) {
+        for (Map.Entry<TypeLiteral<?>, List<ExtensionListListener<?>>> e : listeners.entrySet()) {
+            List<Binding<?>> changed = new ArrayList<>();
+            BindingIndex.addOwnBindings(child, (TypeLiteral) e.getKey(), (List) changed);
+            if (changed.isEmpty()) {
+                continue;
+            }
+            List<Binding<?>> none = Collections.emptyList();
+            for (ExtensionListListener l : e.getValue()) {
+                try {
+                    l.onChange(added ? changed : none, added ? none : changed);
+                } catch (RuntimeException x) {
+                    LOGGER.log(Level.WARNING, l + " failed to process a change of " + e.getKey(), x);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the registry of the given injector, or null if it doesn't have one yet,
+     * in which case nothing has been attached.
+     */
+    static ExtensionRegistry of(Injector injector) {
+        Binding<ExtensionRegistry> b = injector.getExistingBinding(KEY);
+        return b == null ? null : b.getProvider().get();
+    }
+
+    private static final Logger LOGGER = Logger.getLogger(ExtensionRegistry.class.getName());
+}
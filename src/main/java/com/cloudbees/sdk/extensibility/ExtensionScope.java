@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cloudbees.sdk.extensibility;
+
+import com.google.inject.ScopeAnnotation;
+import com.google.inject.Scopes;
+import com.google.inject.binder.ScopedBindingBuilder;
+import jakarta.inject.Scope;
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+
+/**
+ * Scope that {@link ExtensionFinder} gives to the implementations of an extension point,
+ * unless the implementation has a scope annotation of its own.
+ *
+ * @see ExtensionPoint#scope()
+ */
+public enum ExtensionScope {
+    /**
+     * Every lookup creates a new instance, which is what Guice does by default.
+     */
+    UNSCOPED,
+    /**
+     * The first lookup creates an instance, which is then reused by the injector that binds the extension.
+     */
+    SINGLETON,
+    /**
+     * Like {@link #SINGLETON}, but the instance is created along with the injector.
+     */
+    EAGER_SINGLETON;
+
+    void applyTo(ScopedBindingBuilder b) {
+        switch (this) {
+            case SINGLETON:
+                b.in(Scopes.SINGLETON);
+                break;
+            case EAGER_SINGLETON:
+                b.asEagerSingleton();
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * The broadest of the scopes that the given extension points ask for.
+     */
+    static ExtensionScope of(Collection<? extends Class<?>> extensionPoints) {
+        ExtensionScope r = UNSCOPED;
+        for (Class<?> ep : extensionPoints) {
+            ExtensionPoint a = ep.getAnnotation(ExtensionPoint.class);
+            if (a != null && a.scope().compareTo(r) > 0) {
+                r = a.scope();
+            }
+        }
+        return r;
+    }
+
+    /**
+     * The scope to give to the given implementation, taking all of its extension points into account
+     * so that every binding of it agrees.
+     */
+    static ExtensionScope forImplementation(Class<?> impl) {
+        for (Annotation a : impl.getAnnotations()) {
+            Class<? extends Annotation> at = a.annotationType();
+            if (at.isAnnotationPresent(Scope.class) || at.isAnnotationPresent(ScopeAnnotation.class)) {
+                return UNSCOPED; // the author knows better, and Guice already honors it
+            }
+        }
+        return of(ExtensionPoints.of(impl));
+    }
+}
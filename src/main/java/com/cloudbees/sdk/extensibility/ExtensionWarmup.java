@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cloudbees.sdk.extensibility;
+
+import com.google.inject.Binding;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Scopes;
+import com.google.inject.spi.InstanceBinding;
+import com.google.inject.spi.LinkedKeyBinding;
+import com.google.inject.spi.ProviderInstanceBinding;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Instantiates extensions ahead of time and concurrently, so that the first request that
+ * iterates an {@link ExtensionList} doesn't pay for their constructors.
+ *
+ * <pre>
+ * Injector i = Guice.createInjector(new ExtensionFinder(cl));
+ * new ExtensionWarmup(executor).warmUpInBackground(i).thenAccept(r -&gt; LOGGER.info(r.toString()));
+ * </pre>
+ *
+ * <p>
+ * Only extensions in the {@linkplain com.google.inject.Scopes#SINGLETON singleton} scope are instantiated,
+ * as any other instance would just be thrown away. The classes of the other extensions are initialized instead.
+ * Extensions are warmed up independently, so one that fails doesn't affect the others; the failures are
+ * recorded in the {@link Report}, and requesting such an extension later fails as it would have.
+ *
+ * @see ExtensionScope
+ */
+public class ExtensionWarmup {
+    private final Executor executor;
+
+    /**
+     * @param executor
+     *      Executor to instantiate extensions on, such as a bounded pool or a virtual thread executor.
+     */
+    public ExtensionWarmup(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Warms up all the extensions in the given injector and its ancestors, and waits for it to complete.
+     */
+    public Report warmUp(Injector injector) {
+        return warmUpInBackground(injector).join();
+    }
+
+    /**
+     * Warms up all the extensions in the given injector and its ancestors without waiting.
+     */
+    public CompletableFuture<Report> warmUpInBackground(Injector injector) {
+        List<Binding<?>> bindings = new ArrayList<>();
+        for (Injector i = injector; i != null; i = i.getParent()) {
+            for (Entry<Key<?>, Binding<?>> e : i.getBindings().entrySet()) {
+                if (e.getKey().getTypeLiteral().getRawType().isAnnotationPresent(ExtensionPoint.class)) {
+                    bindings.add(e.getValue());
+                }
+            }
+        }
+        return warmUpInBackground(bindings);
+    }
+
+    /**
+     * Warms up the extensions of the given bindings, such as {@link ExtensionList#bindings()}, without waiting.
+     */
+    public CompletableFuture<Report> warmUpInBackground(List<? extends Binding<?>> bindings) {
+        Report report = new Report();
+        long begin = System.nanoTime();
+
+        // an implementation is bound once for each of its extension points
+        Map<Object, Binding<?>> byImplementation = new LinkedHashMap<>();
+        for (Binding<?> b : bindings) {
+            byImplementation.putIfAbsent(implementation(b), b);
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (Binding<?> b : byImplementation.values()) {
+            futures.add(CompletableFuture.runAsync(() -> warmUp(b, report), executor));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenApply(v -> {
+            report.total = Duration.ofNanos(System.nanoTime() - begin);
+            return report;
+        });
+    }
+
+    /**
+     * Identifies the implementation behind the given binding without loading its class, which is left
+     * to {@link #warmUp(Binding, Report)} on the executor. When the implementation can't be told from the
+     * binding, such as for a provider, the binding itself is the implementation.
+     */
+    private static Object implementation(Binding<?> b) {
+        if (b instanceof LinkedKeyBinding) {
+            return ((LinkedKeyBinding<?>) b).getLinkedKey();
+        }
+        if (b instanceof ProviderInstanceBinding) {
+            Object p = ((ProviderInstanceBinding<?>) b).getUserSuppliedProvider();
+            if (p instanceof DeferredExtensionModule.DeferredProvider) {
+                return ((DeferredExtensionModule.DeferredProvider<?>) p).impl;
+            }
+        }
+        if (b instanceof InstanceBinding) {
+            return ((InstanceBinding<?>) b).getInstance();
+        }
+        return b;
+    }
+
+    private static void warmUp(Binding<?> b, Report report) {
+        long begin = System.nanoTime();
+        String name = b.getKey().toString();
+        try {
+            Class<?> type = ExtensionList.implementationType(b);
+            if (type != b.getKey().getTypeLiteral().getRawType()) {
+                name = type.getName();
+            }
+            if (Scopes.isSingleton(b)) {
+                b.getProvider().get();
+            } else {
+                Class.forName(type.getName(), true, type.getClassLoader());
+            }
+            report.done(name, Duration.ofNanos(System.nanoTime() - begin));
+        } catch (RuntimeException | LinkageError | ClassNotFoundException e) {
+            LOGGER.log(Level.WARNING, "Failed to warm up " + name, e);
+            report.failed(name, Duration.ofNanos(System.nanoTime() - begin), e);
+        }
+    }
+
+    /**
+     * Outcome of a warm-up.
+     */
+    public static final class Report {
+        private final Map<String, Duration> durations = new LinkedHashMap<>();
+        private final Map<String, Throwable> failures = new LinkedHashMap<>();
+        private Duration total;
+
+        private synchronized void done(String name, Duration d) {
+            durations.put(name, d);
+        }
+
+        private synchronized void failed(String name, Duration d, Throwable t) {
+            durations.put(name, d);
+            failures.put(name, t);
+        }
+
+        /**
+         * How long each extension took to warm up, slowest first, by the name of its class,
+         * or by its key when the binding doesn't tell the class, such as for a provider.
+         */
+        public synchronized Map<String, Duration> getDurations() {
+            Map<String, Duration> r = new LinkedHashMap<>();
+            durations.entrySet().stream()
+                    .sorted(Entry.<String, Duration>comparingByValue().reversed())
+                    .forEach(e -> r.put(e.getKey(), e.getValue()));
+            return Collections.unmodifiableMap(r);
+        }
+
+        /**
+         * Extensions that failed to warm up.
+         */
+        public synchronized Map<String, Throwable> getFailures() {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+        }
+
+        /**
+         * The slowest extension, which bounds how quickly the warm-up can complete no matter how many threads
+         * it's given, or null if there were no extensions. Singletons that an extension depends on are
+         * instantiated as part of it, so this includes them.
+         */
+        public synchronized Entry<String, Duration> getCriticalPath() {
+            return durations.entrySet().stream()
+                    .max(Entry.comparingByValue())
+                    .map(e -> Map.entry(e.getKey(), e.getValue()))
+                    .orElse(null);
+        }
+
+        /**
+         * Wall clock time of the whole warm-up.
+         */
+        public Duration getTotal() {
+            return total;
+        }
+
+        @Override
+        public synchronized String toString() {
+            StringBuilder b = new StringBuilder("Warmed up ")
+                    .append(durations.size())
+                    .append(" extensions in ")
+                    .append(total.toMillis())
+                    .append("ms");
+            Entry<String, Duration> cp = getCriticalPath();
+            if (cp != null) {
+                b.append("; slowest ")
+                        .append(cp.getKey())
+                        .append(" took ")
+                        .append(cp.getValue().toMillis())
+                        .append("ms");
+            }
+            if (!failures.isEmpty()) {
+                b.append("\n  failed: ").append(failures.keySet());
+            }
+            return b.toString();
+        }
+    }
+
+    private static final Logger LOGGER = Logger.getLogger(ExtensionWarmup.class.getName());
+}
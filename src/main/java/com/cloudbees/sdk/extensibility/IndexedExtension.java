@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cloudbees.sdk.extensibility;
+
+import com.google.inject.BindingAnnotation;
+import jakarta.inject.Qualifier;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+/**
+ * One line of the extension index that {@link ExtensionIndexProcessor} generates at compile time.
+ *
+ * <p>
+ * Each line describes one extension implementation as tab-separated fields:
+ * the binary name of the implementation class, the comma-separated binary names of its extension points,
+ * and optionally the binary name of its qualifier annotation followed by the qualifier's member values.
+ * The member values are only recorded (as URL-encoded {@code name=value} pairs separated by {@code &})
+ * when all of them are strings, as is the case for {@code @Named}.
+ */
+final class IndexedExtension {
+    /**
+     * Resource that holds the index in each jar.
+     */
+    static final String RESOURCE = "META-INF/extensibility/index";
+
+    /**
+     * Binary name of the extension implementation class.
+     */
+    final String impl;
+    /**
+     * Binary names of the extension points it implements.
+     */
+    final List<String> extensionPoints;
+    /**
+     * Binary name of the qualifier annotation on the implementation, or null if there's none.
+     */
+    final String qualifier;
+    /**
+     * Member values of the qualifier, or null if they are unknown.
+     */
+    final Map<String, String> qualifierValues;
+
+    IndexedExtension(
+            String impl, List<String> extensionPoints, String qualifier, Map<String, String> qualifierValues) {
+        this.impl = impl;
+        this.extensionPoints = Collections.unmodifiableList(extensionPoints);
+        this.qualifier = qualifier;
+        this.qualifierValues = qualifierValues == null ? null : Collections.unmodifiableMap(qualifierValues);
+    }
+
+    /**
+     * Describes an extension that was discovered at runtime, in the same way as {@link ExtensionIndexProcessor}.
+     */
+    static IndexedExtension of(Class<?> impl, Collection<Class<?>> extensionPoints) {
+        List<String> eps = new ArrayList<>();
+        for (Class<?> ep : extensionPoints) {
+            eps.add(ep.getName());
+        }
+        for (Annotation a : impl.getAnnotations()) {
+            Class<? extends Annotation> at = a.annotationType();
+            if (at.isAnnotationPresent(Qualifier.class) || at.isAnnotationPresent(BindingAnnotation.class)) {
+                Map<String, String> values = new LinkedHashMap<>();
+                for (Method m : at.getDeclaredMethods()) {
+                    try {
+                        m.setAccessible(true);
+                        Object v = m.invoke(a);
+                        if (!(v instanceof String)) {
+                            values = null; // can't be represented in the index
+                            break;
+                        }
+                        values.put(m.getName(), (String) v);
+                    } catch (ReflectiveOperationException | RuntimeException e) {
+                        values = null;
+                        break;
+                    }
+                }
+                return new IndexedExtension(impl.getName(), eps, at.getName(), values);
+            }
+        }
+        return new IndexedExtension(impl.getName(), eps, null, null);
+    }
+
+    static IndexedExtension parse(String line) {
+        String[] fields = line.split("\t", -1);
+        if (fields.length < 2) {
+            throw new IllegalArgumentException("Malformed extension index line: " + line);
+        }
+        String qualifier = fields.length > 2 && !fields[2].isEmpty() ? fields[2] : null;
+        Map<String, String> values = null;
+        if (qualifier != null && fields.length > 3) {
+            values = new LinkedHashMap<>();
+            for (String pair : fields[3].split("&")) {
+                if (!pair.isEmpty()) {
+                    int idx = pair.indexOf('=');
+                    values.put(decode(pair.substring(0, idx)), decode(pair.substring(idx + 1)));
+                }
+            }
+        }
+        return new IndexedExtension(fields[0], Arrays.asList(fields[1].split(",")), qualifier, values);
+    }
+
+    String format() {
+        StringBuilder b = new StringBuilder(impl).append('\t').append(String.join(",", extensionPoints));
+        if (qualifier != null) {
+            b.append('\t').append(qualifier);
+            if (qualifierValues != null) {
+                b.append('\t');
+                boolean first = true;
+                for (Entry<String, String> e : qualifierValues.entrySet()) {
+                    if (!first) {
+                        b.append('&');
+                    }
+                    b.append(encode(e.getKey())).append('=').append(encode(e.getValue()));
+                    first = false;
+                }
+            }
+        }
+        return b.toString();
+    }
+
+    /**
+     * Reads the index from a single resource, adding entries whose implementation class hasn't been seen yet.
+     */
+    static void read(Reader r, Set<String> seen, List<IndexedExtension> result) throws IOException {
+        try (BufferedReader in = new BufferedReader(r)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                IndexedExtension e = parse(line);
+                if (seen.add(e.impl)) {
+                    result.add(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Lists up all the extensions indexed in the jars visible to the given {@link ClassLoader}.
+     */
+    static List<IndexedExtension> list(ClassLoader cl, Set<String> seen) throws IOException {
+        return list(Collections.list(cl.getResources(RESOURCE)), seen);
+    }
+
+    /**
+     * Lists up all the extensions indexed in the given index resources.
+     */
+    static List<IndexedExtension> list(List<URL> resources, Set<String> seen) throws IOException {
+        List<IndexedExtension> r = new ArrayList<>();
+        for (URL url : resources) {
+            read(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8), seen, r);
+        }
+        return r;
+    }
+
+    private static String encode(String s) {
+        return URLEncoder.encode(s, StandardCharsets.UTF_8);
+    }
+
+    private static String decode(String s) {
+        return URLDecoder.decode(s, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+}
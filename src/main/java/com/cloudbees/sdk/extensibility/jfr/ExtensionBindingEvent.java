@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cloudbees.sdk.extensibility.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Binding one extension to one of its extension points, including installing the module that does it.
+ */
+@Name("com.cloudbees.sdk.extensibility.ExtensionBinding")
+@Label("Extension Binding")
+@Category({"CloudBees", "Extensibility"})
+@Enabled(false)
+@StackTrace(false)
+public final class ExtensionBindingEvent extends Event {
+    @Label("Extension")
+    public String extension;
+
+    @Label("Extension Point")
+    public String extensionPoint;
+
+    @Label("Module")
+    @Description("Module that binds the extension")
+    public Class<?> module;
+}
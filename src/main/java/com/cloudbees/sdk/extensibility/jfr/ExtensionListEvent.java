@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cloudbees.sdk.extensibility.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Listing up and instantiating all the extensions of an extension point through {@code ExtensionList}.
+ * This records a stack trace, so that the code that keeps listing extensions can be found.
+ * As this happens often, only those that take at least a millisecond are recorded by default.
+ */
+@Name("com.cloudbees.sdk.extensibility.ExtensionList")
+@Label("Extension List")
+@Category({"CloudBees", "Extensibility"})
+@Enabled(false)
+@Threshold("1 ms")
+public final class ExtensionListEvent extends Event {
+    @Label("Type")
+    @Description("Extension point being listed")
+    public String type;
+
+    @Label("Extensions")
+    @Description("Number of extensions found")
+    public int count;
+}
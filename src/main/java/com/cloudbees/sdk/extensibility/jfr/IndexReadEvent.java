@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cloudbees.sdk.extensibility.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Reading one of the indices that {@code ExtensionFinder} discovers extensions from.
+ * Depending on how {@code ExtensionFinder} is configured, this may include loading the classes it lists.
+ */
+@Name("com.cloudbees.sdk.extensibility.IndexRead")
+@Label("Extension Index Read")
+@Category({"CloudBees", "Extensibility"})
+@Enabled(false)
+@StackTrace(false)
+public final class IndexReadEvent extends Event {
+    @Label("Index")
+    @Description("Annotation whose index was read, or the name of the index resource")
+    public String index;
+
+    @Label("Entries")
+    public int entries;
+}
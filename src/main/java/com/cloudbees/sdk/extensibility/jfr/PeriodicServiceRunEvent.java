@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cloudbees.sdk.extensibility.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * One execution of a {@code PeriodicService}, or one that was skipped because another was still in progress.
+ */
+@Name("com.cloudbees.sdk.extensibility.PeriodicServiceRun")
+@Label("Periodic Service Run")
+@Category({"CloudBees", "Extensibility", "Lifecycle"})
+@Enabled(false)
+@StackTrace(false)
+public final class PeriodicServiceRunEvent extends Event {
+    @Label("Service")
+    public Class<?> service;
+
+    @Label("Scheduled")
+    @Description("Run by the scheduler, as opposed to on demand")
+    public boolean scheduled;
+
+    @Label("Lag")
+    @Description("How late a scheduled execution started compared to its planned time")
+    @Timespan
+    public long lag;
+
+    @Label("Overlapped")
+    @Description("Requested while another execution was in progress")
+    public boolean overlapped;
+
+    @Label("Skipped")
+    @Description("Not run because another execution was in progress")
+    public boolean skipped;
+
+    @Label("Failure")
+    public String failure;
+}
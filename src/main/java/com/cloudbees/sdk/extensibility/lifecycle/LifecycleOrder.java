@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cloudbees.sdk.extensibility.lifecycle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiPredicate;
+
+/**
+ * Orders lifecycle components by the types they declare to come after, such as with {@link StartAfter}.
+ * <p>
+ * {@code after} tells whether the first component has to come after the second.
+ */
+final class LifecycleOrder {
+    private LifecycleOrder() {}
+
+    /**
+     * Lists the components among {@code all} that {@code o} has to come after.
+     */
+    static <T> List<T> dependencies(T o, List<T> all, BiPredicate<T, T> after) {
+        List<T> r = new ArrayList<>();
+        for (T d : all) {
+            if (d != o && after.test(o, d)) {
+                r.add(d);
+            }
+        }
+        return r;
+    }
+
+    /**
+     * Whether {@code o} is declared to {@linkplain StartAfter start after} {@code d}.
+     */
+    static boolean startsAfter(Object o, Object d) {
+        StartAfter a = o.getClass().getAnnotation(StartAfter.class);
+        if (a != null) {
+            for (Class<?> type : a.value()) {
+                if (type.isInstance(d)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sorts the components so that each comes after its dependencies, keeping the original order otherwise.
+     *
+     * @throws IllegalStateException
+     *      if the dependencies form a cycle.
+     */
+    static <T> List<T> sort(List<T> all, BiPredicate<T, T> after) {
+        List<T> r = new ArrayList<>(all.size());
+        Set<T> done = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (T o : all) {
+            visit(o, all, after, done, new ArrayList<>(), r);
+        }
+        return r;
+    }
+
+    private static <T> void visit(
+            T o, List<T> all, BiPredicate<T, T> after, Set<T> done, List<T> path, List<T> r) {
+        if (done.contains(o)) {
+            return;
+        }
+        if (path.contains(o)) {
+            throw new IllegalStateException("Cyclic ordering between " + path.subList(path.indexOf(o), path.size()));
+        }
+        path.add(o);
+        for (T d : dependencies(o, all, after)) {
+            visit(d, all, after, done, path, r);
+        }
+        path.remove(path.size() - 1);
+        done.add(o);
+        r.add(o);
+    }
+}
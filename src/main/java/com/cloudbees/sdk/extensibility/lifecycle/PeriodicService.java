@@ -16,34 +16,157 @@
 
 package com.cloudbees.sdk.extensibility.lifecycle;
 
-import java.util.Timer;
-import java.util.TimerTask;
+import com.cloudbees.sdk.extensibility.ExtensionList;
+import com.cloudbees.sdk.extensibility.jfr.PeriodicServiceRunEvent;
+import jakarta.inject.Inject;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Base implementation for components that run periodical background task.
+ * <p>
+ * All the periodic services share a single scheduler thread, which hands each execution over to
+ * {@link #getExecutor()}. By default, the next execution is scheduled {@link #getPeriod()} after the previous one
+ * started, as {@link java.util.Timer} did; see {@link #getSchedulingPolicy()}.
+ * <p>
+ * Each service keeps {@linkplain #getStatistics() statistics} of its executions, and reports them to
+ * {@link PeriodicServiceListener}s.
+ * <p>
+ * As a {@link Stoppable}, a service that's discovered as an extension is a singleton, so the instance
+ * that {@code ExtensionList<Stoppable>} returns is the one that was started.
  *
  * @author Kohsuke Kawaguchi
  */
-public abstract class PeriodicService implements Startable {
+public abstract class PeriodicService implements Startable, Stoppable {
+    private final Object lock = new Object();
+    /**
+     * Next scheduled execution, if {@link #running}.
+     */
+    private ScheduledFuture<?> next;
+
+    private boolean running;
+
+    /**
+     * Incremented by every {@link #start()} and {@link #stop()}, so that an execution that was already
+     * under way when the service was restarted doesn't keep scheduling a second chain of executions.
+     */
+    private long generation;
+
+    /**
+     * Number of consecutive failed executions, reset by the next one that succeeds.
+     * Only updated by the execution in progress, which {@link #inProgress} makes exclusive.
+     */
+    private volatile int consecutiveFailures;
+
+    private final Statistics statistics = new Statistics();
+
+    @Inject
+    private ExtensionList<PeriodicServiceListener> listeners;
+
     @Override
     public void start() throws Exception {
-        new Timer()
-                .schedule(
-                        new TimerTask() {
-                            @Override
-                            public void run() {
-                                try {
-                                    PeriodicService.this.doRun();
-                                } catch (Throwable e) {
-                                    LOGGER.log(Level.SEVERE, "Periodic task failed", e);
-                                }
-                            }
-                        },
-                        getInitialDelay(),
-                        getPeriod());
+        synchronized (lock) {
+            if (running) {
+                return;
+            }
+            running = true;
+            consecutiveFailures = 0;
+            schedule(getSchedulingPolicy().initialDelay(getInitialDelay()), ++generation);
+        }
+    }
+
+    /**
+     * Cancels the future executions. An execution that's already in progress runs to completion.
+     * The service can be {@linkplain #start() started} again afterward.
+     */
+    @Override
+    public void stop() {
+        synchronized (lock) {
+            running = false;
+            generation++;
+            if (next != null) {
+                next.cancel(false);
+                next = null;
+            }
+        }
+    }
+
+    private void schedule(long delay, long generation) {
+        synchronized (lock) {
+            if (isCurrent(generation)) {
+                long due = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
+                next = SCHEDULER.schedule(() -> dispatch(generation, due), delay, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private boolean isCurrent(long generation) {
+        synchronized (lock) {
+            return running && generation == this.generation;
+        }
+    }
+
+    /**
+     * @param due
+     *      {@link System#nanoTime()} at which the execution was due.
+     */
+    private void dispatch(long generation, long due) {
+        try {
+            getExecutor().execute(() -> execute(generation, due));
+        } catch (RejectedExecutionException e) {
+            LOGGER.log(Level.WARNING, "Periodic task rejected by its executor", e);
+            schedule(getPeriod(), generation);
+        }
+    }
+
+    private void execute(long generation, long due) {
+        if (!isCurrent(generation)) {
+            return; // stopped, or restarted while this execution sat in the executor's queue
+        }
+        long started = System.nanoTime();
+        try {
+            tryRun(started - due);
+        } catch (Throwable e) {
+            LOGGER.log(Level.SEVERE, "Periodic task failed", e);
+        } finally {
+            schedule(getSchedulingPolicy().nextDelay(getPeriod(), due, started, consecutiveFailures), generation);
+        }
+    }
+
+    /**
+     * Controls how executions are scheduled. Defaults to {@link SchedulingPolicy#fixedDelay()}.
+     */
+    protected SchedulingPolicy getSchedulingPolicy() {
+        return SchedulingPolicy.fixedDelay();
+    }
+
+    /**
+     * Executor that runs the periodic task.
+     * <p>
+     * Defaults to a pool shared by all the periodic services, with one thread per processor, whose idle threads
+     * go away. When all of them are busy, executions wait in line, which shows up as
+     * {@linkplain Statistics#getLastLag() lag}. Services whose task blocks for long should override this
+     * to run elsewhere, for example on a virtual thread executor or a pool of their own.
+     */
+    protected Executor getExecutor() {
+        return RUNNER;
     }
 
     /**
@@ -53,19 +176,139 @@ public abstract class PeriodicService implements Startable {
 
     private final AtomicBoolean inProgress = new AtomicBoolean();
 
+    /**
+     * Set when a {@linkplain SchedulingPolicy#isCoalescing() coalescing} execution is requested
+     * while another is in progress.
+     */
+    private final AtomicBoolean pending = new AtomicBoolean();
+
     /**
      * Run from the web interface.
+     * <p>
+     * If another run is in progress, this either fails, or with a {@linkplain SchedulingPolicy#coalescing()
+     * coalescing} policy, returns right away and lets the run in progress run once more.
      */
     public void doRun() throws Exception {
-        if (inProgress.compareAndSet(false, true)) {
+        if (!tryRun(-1)) {
+            throw new IllegalStateException("Another run is already in progress");
+        }
+    }
+
+    /**
+     * Runs the task unless it's already running.
+     *
+     * @param lag
+     *      How late a scheduled execution is, in nanoseconds, or negative for an on-demand execution.
+     * @return
+     *      false if the execution was skipped.
+     */
+    private boolean tryRun(long lag) throws Exception {
+        boolean coalescing = getSchedulingPolicy().isCoalescing();
+        if (coalescing) {
+            pending.set(true);
+        }
+        if (!inProgress.compareAndSet(false, true)) {
+            if (coalescing) {
+                return true; // whoever is running will pick up the pending request
+            }
+            statistics.skipped.increment();
+            PeriodicServiceRunEvent event = new PeriodicServiceRunEvent();
+            if (event.shouldCommit()) {
+                event.skipped = true;
+                commit(event, lag, true, null);
+            }
+            notifyListeners(l -> l.onSkipped(this));
+            return false;
+        }
+        Throwable failure = null;
+        boolean overlapped = false;
+        do {
+            pending.set(false);
             try {
-                run();
+                runOnce(lag, overlapped);
+            } catch (Throwable t) {
+                if (failure == null) {
+                    failure = t;
+                }
             } finally {
                 inProgress.set(false);
             }
-        } else {
-            throw new IllegalStateException("Another run is already in progress");
+            lag = -1;
+            overlapped = true;
+        } while (coalescing && pending.get() && inProgress.compareAndSet(false, true));
+
+        if (failure instanceof Exception) {
+            throw (Exception) failure;
         }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        return true;
+    }
+
+    /**
+     * @param overlapped
+     *      true if the execution was requested while the previous one was still in progress.
+     */
+    private void runOnce(long lag, boolean overlapped) throws Exception {
+        long begin = System.nanoTime();
+        PeriodicServiceRunEvent event = new PeriodicServiceRunEvent();
+        event.begin();
+        Throwable failure = null;
+        try {
+            run();
+        } catch (Throwable t) {
+            failure = t;
+            throw t;
+        } finally {
+            Duration duration = Duration.ofNanos(System.nanoTime() - begin);
+            Duration lagDuration = lag < 0 ? null : Duration.ofNanos(lag);
+            statistics.record(duration, lagDuration, failure);
+            consecutiveFailures = failure == null ? 0 : consecutiveFailures + 1;
+            commit(event, lag, overlapped, failure);
+            Throwable f = failure;
+            notifyListeners(l -> l.onCompleted(this, duration, lagDuration, f));
+        }
+    }
+
+    private void commit(PeriodicServiceRunEvent event, long lag, boolean overlapped, Throwable failure) {
+        if (event.shouldCommit()) {
+            event.service = getClass();
+            event.scheduled = lag >= 0;
+            event.lag = Math.max(lag, 0);
+            event.overlapped = overlapped;
+            event.failure = failure == null ? null : failure.toString();
+            event.commit();
+        }
+    }
+
+    private void notifyListeners(Consumer<PeriodicServiceListener> action) {
+        if (listeners == null) {
+            return; // not instantiated by an injector
+        }
+        List<PeriodicServiceListener> snapshot;
+        try {
+            // the snapshot is shared between executions, so listeners aren't instantiated over and over
+            snapshot = listeners.snapshot();
+        } catch (RuntimeException e) {
+            // such as a ProvisionException from a listener that fails to instantiate
+            LOGGER.log(Level.WARNING, "Failed to instantiate the listeners of " + this, e);
+            return;
+        }
+        for (PeriodicServiceListener l : snapshot) {
+            try {
+                action.accept(l);
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, l + " failed to process an execution of " + this, e);
+            }
+        }
+    }
+
+    /**
+     * Statistics of the executions of this service so far.
+     */
+    public Statistics getStatistics() {
+        return statistics;
     }
 
     /**
@@ -80,5 +323,148 @@ public abstract class PeriodicService implements Startable {
         return getPeriod();
     }
 
+    /**
+     * Execution statistics of a {@link PeriodicService}, updated as it runs.
+     */
+    public static final class Statistics {
+        private static final int BUCKETS = 32;
+
+        /**
+         * See {@link #getDurationHistogram()}.
+         */
+        private final AtomicLongArray durations = new AtomicLongArray(BUCKETS);
+
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+        private volatile Instant lastSuccess;
+        private volatile Instant lastFailure;
+        private volatile Duration lastDuration;
+        private volatile Duration lastLag;
+        private final AtomicLong maxLag = new AtomicLong();
+
+        private Statistics() {}
+
+        private void record(Duration duration, Duration lag, Throwable failure) {
+            long ms = duration.toMillis();
+            int bucket = ms == 0 ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(ms));
+            durations.incrementAndGet(bucket);
+            lastDuration = duration;
+            if (failure == null) {
+                lastSuccess = Instant.now();
+            } else {
+                failures.increment();
+                lastFailure = Instant.now();
+            }
+            if (lag != null) {
+                lastLag = lag;
+                maxLag.accumulateAndGet(lag.toNanos(), Math::max);
+            }
+        }
+
+        /**
+         * Number of completed executions, successful or not.
+         */
+        public long getRuns() {
+            long n = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                n += durations.get(i);
+            }
+            return n;
+        }
+
+        /**
+         * Number of executions that failed.
+         */
+        public long getFailures() {
+            return failures.sum();
+        }
+
+        /**
+         * Number of executions that were skipped because the previous one was still in progress.
+         */
+        public long getSkippedRuns() {
+            return skipped.sum();
+        }
+
+        /**
+         * When the last successful execution finished, or null.
+         */
+        public Instant getLastSuccess() {
+            return lastSuccess;
+        }
+
+        /**
+         * When the last failed execution finished, or null.
+         */
+        public Instant getLastFailure() {
+            return lastFailure;
+        }
+
+        /**
+         * How long the last execution took, or null.
+         */
+        public Duration getLastDuration() {
+            return lastDuration;
+        }
+
+        /**
+         * How late the last scheduled execution started compared to its planned time, or null.
+         */
+        public Duration getLastLag() {
+            return lastLag;
+        }
+
+        /**
+         * The worst scheduling lag seen so far.
+         */
+        public Duration getMaxLag() {
+            return Duration.ofNanos(maxLag.get());
+        }
+
+        /**
+         * Histogram of execution durations in power-of-two milliseconds buckets.
+         * Element 0 counts executions shorter than 1ms, and element i counts executions that took
+         * at least 2<sup>i-1</sup>ms and less than 2<sup>i</sup>ms. The last element also counts
+         * everything longer than that.
+         */
+        public long[] getDurationHistogram() {
+            long[] r = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                r[i] = durations.get(i);
+            }
+            return r;
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, name + " " + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    private static final ScheduledThreadPoolExecutor SCHEDULER =
+            new ScheduledThreadPoolExecutor(1, daemonThreads("PeriodicService scheduler"));
+
+    static {
+        SCHEDULER.setRemoveOnCancelPolicy(true);
+    }
+
+    private static final int RUNNER_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private static final ThreadPoolExecutor RUNNER = new ThreadPoolExecutor(
+            RUNNER_THREADS,
+            RUNNER_THREADS,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            daemonThreads("PeriodicService"));
+
+    static {
+        RUNNER.allowCoreThreadTimeOut(true);
+    }
+
     private static final Logger LOGGER = Logger.getLogger(PeriodicService.class.getName());
 }
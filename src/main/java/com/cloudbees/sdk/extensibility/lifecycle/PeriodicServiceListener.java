@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cloudbees.sdk.extensibility.lifecycle;
+
+import com.cloudbees.sdk.extensibility.ExtensionPoint;
+import java.time.Duration;
+
+/**
+ * Receives the outcome of every {@link PeriodicService} execution, to feed them into a monitoring system.
+ * <p>
+ * Implementations are discovered like any other extension, and are notified by the {@link PeriodicService}s
+ * that are instantiated by the same injector. They are called on the thread that ran the task,
+ * so they should return quickly.
+ * <p>
+ * Services take their listeners from {@link com.cloudbees.sdk.extensibility.ExtensionList#snapshot()},
+ * so even an unscoped listener is instantiated once and then reused for every execution, until extensions
+ * are added or removed through {@link com.cloudbees.sdk.extensibility.ExtensionRegistry}.
+ * Listeners that must keep their state across such changes should be {@code @Singleton}.
+ *
+ * @see PeriodicService#getStatistics()
+ */
+@ExtensionPoint
+public interface PeriodicServiceListener {
+    /**
+     * Called when an execution has finished.
+     *
+     * @param duration
+     *      How long the task ran.
+     * @param lag
+     *      How late the execution started compared to when it was scheduled,
+     *      or null if it was {@linkplain PeriodicService#doRun() run on demand}.
+     * @param failure
+     *      What the task threw, or null if it succeeded.
+     */
+    default void onCompleted(PeriodicService service, Duration duration, Duration lag, Throwable failure) {}
+
+    /**
+     * Called when an execution is skipped because the previous one is still in progress.
+     */
+    default void onSkipped(PeriodicService service) {}
+}
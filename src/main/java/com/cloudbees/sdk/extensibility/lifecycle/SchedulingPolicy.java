@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cloudbees.sdk.extensibility.lifecycle;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Controls when a {@link PeriodicService} runs, relative to its {@linkplain PeriodicService#getPeriod() period}.
+ * <p>
+ * Policies are immutable; the {@code with...} methods return a modified copy:
+ *
+ * <pre>
+ * &#64;Override
+ * protected SchedulingPolicy getSchedulingPolicy() {
+ *     return SchedulingPolicy.fixedRate().withJitter(0.1).withBackoff(2, Duration.ofMinutes(10)).coalescing();
+ * }
+ * </pre>
+ */
+public final class SchedulingPolicy {
+    private static final SchedulingPolicy FIXED_DELAY = new SchedulingPolicy(false, 0, 1, null, false);
+    private static final SchedulingPolicy FIXED_RATE = new SchedulingPolicy(true, 0, 1, null, false);
+
+    private final boolean fixedRate;
+    private final double jitter;
+    private final double backoffMultiplier;
+    private final Duration maxBackoff;
+    private final boolean coalescing;
+
+    private SchedulingPolicy(
+            boolean fixedRate, double jitter, double backoffMultiplier, Duration maxBackoff, boolean coalescing) {
+        this.fixedRate = fixedRate;
+        this.jitter = jitter;
+        this.backoffMultiplier = backoffMultiplier;
+        this.maxBackoff = maxBackoff;
+        this.coalescing = coalescing;
+    }
+
+    /**
+     * Each execution is scheduled one period after the previous one started, or right away if that one took
+     * longer than the period, like {@link java.util.Timer#schedule(java.util.TimerTask, long, long)}.
+     * Unlike {@link #fixedRate()}, an execution that starts late pushes back all the following ones.
+     * This is the default.
+     */
+    public static SchedulingPolicy fixedDelay() {
+        return FIXED_DELAY;
+    }
+
+    /**
+     * Executions are scheduled one period apart from each other, regardless of how long they take.
+     * When an execution overruns, the next one starts right away, and the missed ones are dropped.
+     */
+    public static SchedulingPolicy fixedRate() {
+        return FIXED_RATE;
+    }
+
+    /**
+     * Randomizes the initial delay, as well as every delay of a fixed delay policy, by up to the given fraction
+     * in either direction, so that services with the same period don't all fire at the same time.
+     *
+     * @param fraction
+     *      between 0 (no jitter) and 1.
+     */
+    public SchedulingPolicy withJitter(double fraction) {
+        if (fraction < 0 || fraction > 1) {
+            throw new IllegalArgumentException("Jitter must be between 0 and 1: " + fraction);
+        }
+        return new SchedulingPolicy(fixedRate, fraction, backoffMultiplier, maxBackoff, coalescing);
+    }
+
+    /**
+     * After consecutive failures, waits the period times {@code multiplier} to the power of the number of
+     * failures, up to {@code max}, before the next execution. The first success resets the backoff.
+     */
+    public SchedulingPolicy withBackoff(double multiplier, Duration max) {
+        if (multiplier < 1) {
+            throw new IllegalArgumentException("Backoff multiplier must be at least 1: " + multiplier);
+        }
+        if (max == null || max.isNegative()) {
+            throw new IllegalArgumentException("Maximum backoff must be given and not negative: " + max);
+        }
+        return new SchedulingPolicy(fixedRate, jitter, multiplier, max, coalescing);
+    }
+
+    /**
+     * When an execution is triggered while another is in progress, be it by the schedule or by
+     * {@link PeriodicService#doRun()}, runs exactly once more after the current one finishes,
+     * instead of skipping the scheduled execution or failing the on-demand one.
+     */
+    public SchedulingPolicy coalescing() {
+        return new SchedulingPolicy(fixedRate, jitter, backoffMultiplier, maxBackoff, true);
+    }
+
+    public boolean isFixedRate() {
+        return fixedRate;
+    }
+
+    public boolean isCoalescing() {
+        return coalescing;
+    }
+
+    /**
+     * Computes the delay before the first execution, in milliseconds.
+     */
+    long initialDelay(long initialDelay) {
+        return jitter(initialDelay);
+    }
+
+    /**
+     * Computes the delay before the next execution, in milliseconds.
+     *
+     * @param due
+     *      {@link System#nanoTime()} at which the last execution was due.
+     * @param started
+     *      {@link System#nanoTime()} at which the last execution actually started.
+     * @param failures
+     *      Number of consecutive failed executions so far.
+     */
+    long nextDelay(long period, long due, long started, int failures) {
+        if (failures > 0 && maxBackoff != null) {
+            double backoff = period * Math.pow(backoffMultiplier, failures);
+            return jitter((long) Math.min(backoff, maxBackoff.toMillis()));
+        }
+        if (fixedRate) {
+            long next = due + TimeUnit.MILLISECONDS.toNanos(period);
+            return Math.max(0, TimeUnit.NANOSECONDS.toMillis(next - System.nanoTime()));
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        return Math.max(0, jitter(period) - elapsed);
+    }
+
+    private long jitter(long delay) {
+        if (jitter == 0 || delay <= 0) {
+            return delay;
+        }
+        double factor = 1 + jitter * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+        return Math.round(delay * factor);
+    }
+
+    @Override
+    public String toString() {
+        return (fixedRate ? "fixed rate" : "fixed delay")
+                + (jitter > 0 ? ", jitter " + jitter : "")
+                + (maxBackoff != null ? ", backoff x" + backoffMultiplier + " up to " + maxBackoff : "")
+                + (coalescing ? ", coalescing" : "");
+    }
+}
@@ -21,7 +21,8 @@ import com.cloudbees.sdk.extensibility.ExtensionPoint;
 /**
  * Callback that gets invoked when the Guice world starts running.
  * <p>
- * It's the responsibility of the code that creates an injector to invoke them.
+ * It's the responsibility of the code that creates an injector to invoke them,
+ * which {@link StartableRunner} can do.
  *
  * @author Kohsuke Kawaguchi
  */
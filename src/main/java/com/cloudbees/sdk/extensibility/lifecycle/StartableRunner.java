@@ -0,0 +1,283 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cloudbees.sdk.extensibility.lifecycle;
+
+import com.cloudbees.sdk.extensibility.jfr.StartEvent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Invokes {@link Startable}s, such as those in {@code ExtensionList<Startable>}, concurrently.
+ *
+ * <pre>
+ * StartableRunner.Report r = new StartableRunner(executor)
+ *         .withTimeout(Duration.ofMinutes(1))
+ *         .start(injector.getInstance(Key.get(new TypeLiteral&lt;ExtensionList&lt;Startable&gt;&gt;() {})));
+ * </pre>
+ *
+ * <p>
+ * A {@link Startable} is started as soon as all the {@link Startable}s it declares to
+ * {@linkplain StartAfter start after} have started, so independent components don't wait for each other.
+ * As the {@link Startable} contract says, the first exception aborts the whole startup: components that haven't
+ * started yet are not started, even if they are already queued on the executor,
+ * and {@link #start(Iterable)} throws a {@link StartupException}.
+ */
+public class StartableRunner {
+    private final Executor executor;
+
+    private Duration timeout;
+
+    /**
+     * @param executor
+     *      Executor to call {@link Startable#start()} on. Its size bounds the number of components
+     *      starting at the same time. A virtual thread executor works well for components that block.
+     */
+    public StartableRunner(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Fails the startup if any single component takes longer than the given time to start.
+     * The time is measured from when {@link Startable#start()} is called, so waiting for
+     * the dependencies or for a thread of the executor doesn't count.
+     *
+     * @return this
+     */
+    public StartableRunner withTimeout(Duration timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * Starts all the given components and waits for them to finish starting.
+     *
+     * @throws StartupException
+     *      caused by the first exception thrown by {@link Startable#start()}, or by a {@link TimeoutException}
+     *      if a component didn't start in time.
+     */
+    public Report start(Iterable<? extends Startable> startables) throws StartupException {
+        List<Startable> all = new ArrayList<>();
+        startables.forEach(all::add);
+
+        Report report = new Report();
+        long begin = System.nanoTime();
+        CompletableFuture<Void> failure = new CompletableFuture<>();
+        Map<Startable, CompletableFuture<Void>> futures = new IdentityHashMap<>();
+        for (Startable s : LifecycleOrder.sort(all, LifecycleOrder::startsAfter)) {
+            List<CompletableFuture<Void>> deps = new ArrayList<>();
+            for (Startable d : LifecycleOrder.dependencies(s, all, LifecycleOrder::startsAfter)) {
+                deps.add(futures.get(d));
+            }
+            CompletableFuture<Void> f = CompletableFuture.allOf(deps.toArray(new CompletableFuture[0]))
+                    .thenCompose(v -> {
+                        CompletableFuture<Void> c = new CompletableFuture<>();
+                        executor.execute(() -> start(s, report, c));
+                        return c;
+                    })
+                    .whenComplete((v, t) -> {
+                        // runs before f completes, so the failure is known by the time all the futures are done
+                        if (t != null) {
+                            report.abort();
+                            failure.completeExceptionally(describe(s, unwrap(t)));
+                        }
+                    });
+            futures.put(s, f);
+        }
+
+        CompletableFuture<Void> done = CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]));
+        try {
+            CompletableFuture.anyOf(done, failure).join();
+        } catch (CompletionException e) {
+            // fail fast: prevent the rest from starting
+            report.abort();
+            futures.values().forEach(f -> f.cancel(false));
+            report.total = Duration.ofNanos(System.nanoTime() - begin);
+            Throwable t = failure.handle((v, x) -> x).getNow(e);
+            throw new StartupException(unwrap(t), report);
+        }
+        report.total = Duration.ofNanos(System.nanoTime() - begin);
+        return report;
+    }
+
+    /**
+     * Runs on the executor, and completes the given future when the component has started.
+     */
+    private void start(Startable s, Report report, CompletableFuture<Void> started) {
+        if (!report.starting(s)) {
+            // the startup was aborted while this was queued
+            started.complete(null);
+            return;
+        }
+        if (timeout != null) {
+            started.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        long begin = System.nanoTime();
+        StartEvent event = new StartEvent();
+        event.begin();
+        try {
+            s.start();
+        } catch (Exception | Error e) {
+            report.failed(s);
+            commit(event, s, e);
+            started.completeExceptionally(e);
+            return;
+        }
+        commit(event, s, null);
+        report.completed(s, Duration.ofNanos(System.nanoTime() - begin));
+        started.complete(null);
+    }
+
+    private static void commit(StartEvent event, Startable s, Throwable failure) {
+        if (event.shouldCommit()) {
+            event.component = s.getClass();
+            event.failure = failure == null ? null : failure.toString();
+            event.commit();
+        }
+    }
+
+    private Throwable describe(Startable s, Throwable t) {
+        if (t instanceof TimeoutException) {
+            TimeoutException x = new TimeoutException(s + " did not start within " + timeout);
+            x.initCause(t);
+            return x;
+        }
+        return t;
+    }
+
+    private static Throwable unwrap(Throwable t) {
+        while (t instanceof CompletionException && t.getCause() != null) {
+            t = t.getCause();
+        }
+        return t;
+    }
+
+    /**
+     * Thrown when a component fails to start, which aborts the startup.
+     * The {@linkplain #getCause() cause} is the exception that the component threw.
+     */
+    public static final class StartupException extends Exception {
+        private final transient Report report;
+
+        StartupException(Throwable cause, Report report) {
+            super(cause.getMessage(), cause);
+            this.report = report;
+        }
+
+        /**
+         * What has started so far. Components that were already starting when the startup was aborted
+         * keep going, and show up here as they finish. Once none is {@linkplain Report#getInProgress() in progress},
+         * {@link StoppableRunner#stop(StartableRunner.Report)} stops everything that did start.
+         */
+        public Report getReport() {
+            return report;
+        }
+    }
+
+    /**
+     * Outcome of {@link StartableRunner#start(Iterable)}.
+     */
+    public static final class Report {
+        private final Map<Startable, Duration> latencies = new LinkedHashMap<>();
+        private final Set<Startable> inProgress = Collections.newSetFromMap(new IdentityHashMap<>());
+        private Duration total;
+        private boolean aborted;
+
+        /**
+         * @return
+         *      false if the startup has been aborted, in which case the component must not be started.
+         */
+        private synchronized boolean starting(Startable s) {
+            if (aborted) {
+                return false;
+            }
+            inProgress.add(s);
+            return true;
+        }
+
+        private synchronized void abort() {
+            aborted = true;
+        }
+
+        private synchronized void failed(Startable s) {
+            inProgress.remove(s);
+        }
+
+        private synchronized void completed(Startable s, Duration d) {
+            inProgress.remove(s);
+            latencies.put(s, d);
+        }
+
+        /**
+         * Components whose {@link Startable#start()} hasn't returned yet.
+         * This can only be non-empty after a failed startup.
+         */
+        public synchronized List<Startable> getInProgress() {
+            return List.copyOf(inProgress);
+        }
+
+        /**
+         * Components in the order they finished starting.
+         * Stopping them in the reverse order is always safe.
+         */
+        public synchronized List<Startable> getStartOrder() {
+            return Collections.unmodifiableList(new ArrayList<>(latencies.keySet()));
+        }
+
+        /**
+         * How long each {@link Startable#start()} took, in the order they finished starting.
+         */
+        public synchronized Map<Startable, Duration> getLatencies() {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(latencies));
+        }
+
+        /**
+         * Wall clock time of the whole startup.
+         */
+        public Duration getTotal() {
+            return total;
+        }
+
+        @Override
+        public synchronized String toString() {
+            StringBuilder b = new StringBuilder("Started ")
+                    .append(latencies.size())
+                    .append(" components in ")
+                    .append(total.toMillis())
+                    .append("ms");
+            latencies.entrySet().stream()
+                    .sorted(Map.Entry.<Startable, Duration>comparingByValue().reversed())
+                    .forEach(e -> b.append("\n  ")
+                            .append(e.getValue().toMillis())
+                            .append("ms ")
+                            .append(e.getKey()));
+            if (!inProgress.isEmpty()) {
+                b.append("\n  still starting: ").append(inProgress);
+            }
+            return b.toString();
+        }
+    }
+}
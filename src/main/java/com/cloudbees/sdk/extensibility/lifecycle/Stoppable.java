@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cloudbees.sdk.extensibility.lifecycle;
+
+import com.cloudbees.sdk.extensibility.ExtensionPoint;
+import com.cloudbees.sdk.extensibility.ExtensionScope;
+
+/**
+ * Callback that gets invoked when the Guice world shuts down; the counterpart of {@link Startable}.
+ * <p>
+ * It's the responsibility of the code that owns the injector to invoke them,
+ * which {@link StoppableRunner} can do.
+ * <p>
+ * Implementations are singletons, so that the instance that gets stopped is the one that was
+ * {@linkplain Startable started}, even when it's looked up again through {@code ExtensionList<Stoppable>}.
+ */
+@ExtensionPoint(scope = ExtensionScope.SINGLETON)
+public interface Stoppable {
+    /**
+     * Called once when the Guice world is shutting down, to release threads and other resources.
+     * <p>
+     * Components that {@linkplain StartAfter started after} this one are stopped before it.
+     */
+    void stop() throws Exception;
+}
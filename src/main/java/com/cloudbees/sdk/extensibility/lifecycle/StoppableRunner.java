@@ -0,0 +1,290 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cloudbees.sdk.extensibility.lifecycle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Invokes {@link Stoppable}s concurrently, in the reverse order of how they were started.
+ *
+ * <pre>
+ * StartableRunner.Report started = new StartableRunner(executor).start(startables);
+ * ...
+ * StoppableRunner.Report stopped = new StoppableRunner(executor)
+ *         .withTimeout(Duration.ofSeconds(5))
+ *         .withBudget(Duration.ofSeconds(30))
+ *         .stop(started);
+ * </pre>
+ *
+ * <p>
+ * A component is stopped once all the components that {@linkplain StartAfter started after} it have stopped,
+ * so independent components stop in parallel. Unlike startup, shutdown is best effort: a component that fails
+ * or takes longer than the {@linkplain #withTimeout(Duration) timeout} is reported and doesn't hold up the rest,
+ * and {@link #stop(List)} returns once the overall {@linkplain #withBudget(Duration) budget} is spent,
+ * whether or not every component has stopped.
+ */
+public class StoppableRunner {
+    private final Executor executor;
+
+    private Duration timeout;
+
+    private Duration budget;
+
+    /**
+     * @param executor
+     *      Executor to call {@link Stoppable#stop()} on.
+     */
+    public StoppableRunner(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Stops waiting for any single component after the given time.
+     *
+     * @return this
+     */
+    public StoppableRunner withTimeout(Duration timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * Stops waiting for the whole shutdown after the given time.
+     *
+     * @return this
+     */
+    public StoppableRunner withBudget(Duration budget) {
+        this.budget = budget;
+        return this;
+    }
+
+    /**
+     * Stops the {@link Stoppable}s among the components that were started by {@link StartableRunner}.
+     */
+    public Report stop(StartableRunner.Report started) throws InterruptedException {
+        List<Stoppable> stoppables = new ArrayList<>();
+        for (Startable s : started.getStartOrder()) {
+            if (s instanceof Stoppable) {
+                stoppables.add((Stoppable) s);
+            }
+        }
+        return stop(stoppables);
+    }
+
+    /**
+     * Stops the given components.
+     *
+     * @param stoppables
+     *      Components in the order they were started.
+     */
+    public Report stop(List<? extends Stoppable> stoppables) throws InterruptedException {
+        List<Stoppable> all = new ArrayList<>(stoppables);
+        Collections.reverse(all);
+
+        Report report = new Report();
+        long begin = System.nanoTime();
+        long deadline = budget == null ? Long.MAX_VALUE : begin + budget.toNanos();
+        Map<Stoppable, CompletableFuture<Void>> futures = new IdentityHashMap<>();
+        for (Stoppable s : LifecycleOrder.sort(all, StoppableRunner::stopsAfter)) {
+            List<CompletableFuture<Void>> deps = new ArrayList<>();
+            for (Stoppable d : LifecycleOrder.dependencies(s, all, StoppableRunner::stopsAfter)) {
+                deps.add(futures.get(d));
+            }
+            futures.put(
+                    s,
+                    CompletableFuture.allOf(deps.toArray(new CompletableFuture[0]))
+                            .thenCompose(v -> stop(s, deadline, report)));
+        }
+
+        CompletableFuture<Void> done = CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]));
+        try {
+            if (deadline == Long.MAX_VALUE) {
+                done.get();
+            } else {
+                done.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+        } catch (TimeoutException e) {
+            for (Stoppable s : all) {
+                if (!futures.get(s).isDone()) {
+                    report.unfinished(s);
+                }
+            }
+            LOGGER.log(
+                    Level.WARNING,
+                    "Shutdown did not finish within {0}: {1}",
+                    new Object[] {budget, report.getUnfinished()});
+        } catch (ExecutionException e) {
+            throw new AssertionError(e); // failures are recorded in the report
+        }
+        report.total = Duration.ofNanos(System.nanoTime() - begin);
+        return report;
+    }
+
+    private CompletableFuture<Void> stop(Stoppable s, long deadline, Report report) {
+        long begin = System.nanoTime();
+        if (deadline != Long.MAX_VALUE && begin - deadline > 0) {
+            return CompletableFuture.completedFuture(null); // out of budget, and already reported as unfinished
+        }
+        CompletableFuture<Void> f;
+        try {
+            f = CompletableFuture.runAsync(
+                    () -> {
+                        try {
+                            s.stop();
+                        } catch (Exception e) {
+                            throw new CompletionException(e);
+                        }
+                    },
+                    executor);
+        } catch (RejectedExecutionException e) {
+            f = CompletableFuture.failedFuture(e); // recorded as a failure like any other
+        }
+        if (timeout != null) {
+            f = f.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        return f.handle((v, t) -> {
+            Duration d = Duration.ofNanos(System.nanoTime() - begin);
+            while (t instanceof CompletionException && t.getCause() != null) {
+                t = t.getCause();
+            }
+            if (t instanceof TimeoutException) {
+                LOGGER.log(Level.WARNING, "{0} did not stop within {1}", new Object[] {s, timeout});
+                report.timedOut(s, d);
+            } else if (t != null) {
+                LOGGER.log(Level.WARNING, s + " failed to stop", t);
+                report.failed(s, d, t);
+            } else {
+                report.stopped(s, d);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Whether {@code o} has to stop after {@code d}, which is when {@code d} started after {@code o}.
+     */
+    private static boolean stopsAfter(Stoppable o, Stoppable d) {
+        return LifecycleOrder.startsAfter(d, o);
+    }
+
+    /**
+     * Outcome of {@link StoppableRunner#stop(List)}.
+     */
+    public static final class Report {
+        private final Map<Stoppable, Duration> durations = new LinkedHashMap<>();
+        private final Map<Stoppable, Throwable> failures = new LinkedHashMap<>();
+        private final List<Stoppable> timedOut = new ArrayList<>();
+        private final List<Stoppable> unfinished = new ArrayList<>();
+        private Duration total;
+
+        private synchronized void stopped(Stoppable s, Duration d) {
+            durations.put(s, d);
+        }
+
+        private synchronized void failed(Stoppable s, Duration d, Throwable t) {
+            durations.put(s, d);
+            failures.put(s, t);
+        }
+
+        private synchronized void timedOut(Stoppable s, Duration d) {
+            durations.put(s, d);
+            timedOut.add(s);
+        }
+
+        private synchronized void unfinished(Stoppable s) {
+            unfinished.add(s);
+        }
+
+        /**
+         * How long each component took to stop, or until it was given up on, in the order they finished.
+         */
+        public synchronized Map<Stoppable, Duration> getDurations() {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(durations));
+        }
+
+        /**
+         * Components whose {@link Stoppable#stop()} threw an exception.
+         */
+        public synchronized Map<Stoppable, Throwable> getFailures() {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+        }
+
+        /**
+         * Components that didn't stop within the {@linkplain StoppableRunner#withTimeout(Duration) timeout}.
+         */
+        public synchronized List<Stoppable> getTimedOut() {
+            return Collections.unmodifiableList(new ArrayList<>(timedOut));
+        }
+
+        /**
+         * Components that were still stopping, or waiting to be stopped, when the
+         * {@linkplain StoppableRunner#withBudget(Duration) budget} ran out.
+         */
+        public synchronized List<Stoppable> getUnfinished() {
+            return Collections.unmodifiableList(new ArrayList<>(unfinished));
+        }
+
+        /**
+         * Whether every component stopped normally and in time.
+         */
+        public synchronized boolean isClean() {
+            return failures.isEmpty() && timedOut.isEmpty() && unfinished.isEmpty();
+        }
+
+        /**
+         * Wall clock time of the whole shutdown.
+         */
+        public Duration getTotal() {
+            return total;
+        }
+
+        @Override
+        public synchronized String toString() {
+            StringBuilder b = new StringBuilder("Stopped ")
+                    .append(durations.size())
+                    .append(" components in ")
+                    .append(total.toMillis())
+                    .append("ms");
+            if (!failures.isEmpty()) {
+                b.append("\n  failed: ").append(failures.keySet());
+            }
+            if (!timedOut.isEmpty()) {
+                b.append("\n  timed out: ").append(timedOut);
+            }
+            if (!unfinished.isEmpty()) {
+                b.append("\n  unfinished: ").append(unfinished);
+            }
+            return b.toString();
+        }
+    }
+
+    private static final Logger LOGGER = Logger.getLogger(StoppableRunner.class.getName());
+}
@@ -16,15 +16,37 @@
 
 package com.cloudbees.sdk.extensibility;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.cloudbees.sdk.extensibility.jfr.ExtensionBindingEvent;
+import com.cloudbees.sdk.extensibility.jfr.ExtensionDiscoveryEvent;
+import com.cloudbees.sdk.extensibility.jfr.ExtensionListEvent;
+import com.cloudbees.sdk.extensibility.jfr.IndexReadEvent;
 import com.google.common.collect.Iterables;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
 import com.google.inject.Key;
+import com.google.inject.TypeLiteral;
 import com.google.inject.name.Names;
 import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -43,6 +65,27 @@ class AnimalTest {
         assertTrue((a[0] instanceof Dog && a[1] instanceof Cat) || (a[1] instanceof Dog && a[0] instanceof Cat));
     }
 
+    @Test
+    void snapshot() {
+        Injector i = Guice.createInjector(new ExtensionFinder(getClass().getClassLoader()));
+        i.injectMembers(this);
+        List<Animal> s = animals.snapshot();
+        assertEquals(2, s.size());
+        assertInstanceOf(Dog.class, s.get(0)); // because of @Ordinal
+        assertInstanceOf(Cat.class, s.get(1));
+        assertSame(s, animals.snapshot());
+    }
+
+    @Test
+    void extensionMap() {
+        Injector i = Guice.createInjector(new ExtensionFinder(getClass().getClassLoader()));
+        ExtensionMap<Named, Animal> m = i.getInstance(Key.get(new TypeLiteral<ExtensionMap<Named, Animal>>() {}));
+        assertInstanceOf(Dog.class, m.get("dog"));
+        assertInstanceOf(Cat.class, m.get("cat"));
+        assertNull(m.get("cow"));
+        assertEquals(List.of("cat", "dog"), new ArrayList<>(m.keySet()));
+    }
+
     /**
      * Make sure we also bind jakarta.inject.Qualifier annotations
      */
@@ -51,4 +94,112 @@ class AnimalTest {
         Injector i = Guice.createInjector(new ExtensionFinder(getClass().getClassLoader()));
         assertInstanceOf(Dog.class, i.getInstance(Key.get(Animal.class, Names.named("dog"))));
     }
+
+    @Test
+    void findFirst() {
+        Injector i = Guice.createInjector(new ExtensionFinder(getClass().getClassLoader()));
+        i.injectMembers(this);
+        assertInstanceOf(Dog.class, animals.findFirst(c -> c == Dog.class).orElseThrow());
+        assertFalse(animals.findFirst(c -> c == Animal.class).isPresent());
+        assertEquals(2, animals.providers().size());
+    }
+
+    /**
+     * The index generated by {@link ExtensionIndexProcessor} while compiling tests should find the same animals.
+     */
+    @Test
+    void precomputedIndex() {
+        Injector i = Guice.createInjector(new ExtensionFinder(getClass().getClassLoader()).usePrecomputedIndex());
+        i.injectMembers(this);
+        Animal[] a = Iterables.toArray(animals, Animal.class);
+        assertEquals(2, a.length);
+        assertTrue((a[0] instanceof Dog && a[1] instanceof Cat) || (a[1] instanceof Dog && a[0] instanceof Cat));
+        assertInstanceOf(Cat.class, i.getInstance(Key.get(Animal.class, Names.named("cat"))));
+    }
+
+    @Test
+    void deferClassLoading() {
+        Injector i = Guice.createInjector(new ExtensionFinder(getClass().getClassLoader()).deferClassLoading());
+        i.injectMembers(this);
+        assertEquals(2, animals.list(i).size());
+        assertInstanceOf(Dog.class, i.getInstance(Key.get(Animal.class, Names.named("dog"))));
+        assertInstanceOf(Cat.class, animals.findFirst(c -> c == Cat.class).orElseThrow());
+    }
+
+    @Test
+    void discoveryReport() {
+        DiscoveryReport report = new DiscoveryReport();
+        Injector i = Guice.createInjector(new ExtensionFinder(getClass().getClassLoader()).addListener(report));
+        i.injectMembers(this);
+        assertEquals(2, animals.list(i).size());
+        List<String> slowest = report.getSlowestExtensions(10).stream()
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        assertTrue(slowest.contains(Cat.class.getName()));
+        assertTrue(slowest.contains(Dog.class.getName()));
+        assertFalse(report.getSlowest(DiscoveryListener.Phase.CONFIGURE, 1).isEmpty());
+        assertTrue(report.format(1).contains("\nSlowest to configure:\n"));
+    }
+
+    @Test
+    void invokeAll() {
+        Injector i = Guice.createInjector(new ExtensionFinder(getClass().getClassLoader()));
+        i.injectMembers(this);
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            ExtensionList.Invocation<Animal, String> r = animals.invokeAll(
+                    a -> {
+                        if (a instanceof Cat) {
+                            try {
+                                Thread.sleep(10_000);
+                            } catch (InterruptedException e) {
+                                throw new IllegalStateException(e);
+                            }
+                        }
+                        return a.bark();
+                    },
+                    executor,
+                    Duration.ofMillis(200));
+            assertEquals(List.of("grrr"), new ArrayList<>(r.getResults().values()));
+            assertEquals(Cat.class, ExtensionList.implementationType(r.getTimedOut().get(0)));
+            assertTrue(r.getFailures().isEmpty());
+            assertFalse(r.isClean());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(
+                List.of("grrr", "meow"),
+                animals.parallelStream().map(Animal::bark).sorted().collect(Collectors.toList()));
+    }
+
+    @Test
+    void flightRecorder() throws Exception {
+        Path file = Files.createTempFile("extensibility", ".jfr");
+        try (Recording r = new Recording()) {
+            r.enable(IndexReadEvent.class);
+            r.enable(ExtensionDiscoveryEvent.class);
+            r.enable(ExtensionBindingEvent.class);
+            r.enable(ExtensionListEvent.class).withoutThreshold();
+            r.start();
+            Injector i = Guice.createInjector(new ExtensionFinder(getClass().getClassLoader()));
+            i.injectMembers(this);
+            assertEquals(2, Iterables.size(animals));
+            r.stop();
+            r.dump(file);
+
+            Map<String, List<RecordedEvent>> events = RecordingFile.readAllEvents(file).stream()
+                    .collect(Collectors.groupingBy(e -> e.getEventType().getName()));
+            assertTrue(events.containsKey("com.cloudbees.sdk.extensibility.IndexRead"));
+            assertTrue(events.get("com.cloudbees.sdk.extensibility.ExtensionDiscovery").stream()
+                    .anyMatch(e -> e.getString("extension").equals(Dog.class.getName())));
+            assertTrue(events.get("com.cloudbees.sdk.extensibility.ExtensionBinding").stream()
+                    .anyMatch(e -> e.getString("extensionPoint").equals(Animal.class.getName())));
+            RecordedEvent list = events.get("com.cloudbees.sdk.extensibility.ExtensionList").get(0);
+            assertEquals(Animal.class.getName(), list.getString("type"));
+            assertEquals(2, list.getInt("count"));
+        } finally {
+            Files.delete(file);
+        }
+    }
 }
@@ -18,6 +18,9 @@ package com.cloudbees.sdk.extensibility;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import jakarta.inject.Named;
 import org.junit.jupiter.api.Test;
@@ -41,4 +44,22 @@ class AnnotationLiteralTest {
         assertNotEquals(a, dog);
         assertNotEquals(a.hashCode(), dog.hashCode());
     }
+
+    @Test
+    void defaults() {
+        Named a = AnnotationLiteral.of(Named.class);
+        assertEquals("", a.value());
+        assertEquals(AnnotationLiteral.of(Named.class, ""), a);
+        assertEquals(AnnotationLiteral.of(Named.class, "").hashCode(), a.hashCode());
+    }
+
+    @Test
+    void canonical() {
+        Named a = AnnotationLiteral.canonical(Named.class, "cat");
+        assertSame(a, AnnotationLiteral.canonical(Named.class, "cat"));
+        assertNotSame(a, AnnotationLiteral.canonical(Named.class, "dog"));
+        assertEquals(Cat.class.getAnnotation(Named.class), a);
+        assertSame(AnnotationLiteral.canonical(Named.class), AnnotationLiteral.canonical(Named.class, ""));
+        assertThrows(NullPointerException.class, () -> AnnotationLiteral.canonical(Named.class, (Object) null));
+    }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cloudbees.sdk.extensibility;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ClassDataSharingTest {
+    @Test
+    void writeClassList() throws Exception {
+        Class<?> isolated = new Isolated(getClass().getClassLoader()).define(Cow.class);
+        Path file = Files.createTempFile("extensibility", ".classlist");
+        try {
+            ClassDataSharing.writeClassList(List.of(Cat.class, ArrayList.class, isolated), file);
+            List<String> names = Files.readAllLines(file);
+
+            // supertypes come first
+            assertTrue(names.indexOf(name(Object.class)) < names.indexOf(name(Animal.class)));
+            assertTrue(names.indexOf(name(Animal.class)) < names.indexOf(name(Cat.class)));
+            assertTrue(names.indexOf(name(AbstractList.class)) < names.indexOf(name(ArrayList.class)));
+            assertTrue(names.indexOf(name(List.class)) < names.indexOf(name(ArrayList.class)));
+            assertTrue(names.indexOf(name(Object.class)) >= 0);
+
+            // a class list can't name classes of other class loaders
+            assertFalse(names.contains(name(Cow.class)));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static String name(Class<?> c) {
+        return c.getName().replace('.', '/');
+    }
+
+    /**
+     * Defines its own copy of a class, like a plugin class loader would.
+     */
+    private static class Isolated extends ClassLoader {
+        Isolated(ClassLoader parent) {
+            super(parent);
+        }
+
+        Class<?> define(Class<?> c) throws IOException {
+            try (InputStream in = getParent().getResourceAsStream(name(c) + ".class")) {
+                byte[] b = in.readAllBytes();
+                return defineClass(c.getName(), b, 0, b.length);
+            }
+        }
+    }
+}
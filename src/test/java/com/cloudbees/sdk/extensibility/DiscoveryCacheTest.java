@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cloudbees.sdk.extensibility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.cloudbees.sdk.extensibility.DiscoveryListener.Phase;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.name.Names;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class DiscoveryCacheTest {
+    @Test
+    void roundTrip() throws Exception {
+        Path dir = Files.createTempDirectory("discovery-cache");
+        try {
+            DiscoveryCache cache = new DiscoveryCache(dir.resolve("cache"));
+            byte[] fingerprint = DiscoveryCache.fingerprint(getClass().getClassLoader(), "test");
+            assertNotNull(fingerprint);
+            assertNull(cache.read(fingerprint));
+
+            List<IndexedExtension> extensions = List.of(
+                    IndexedExtension.of(Cat.class, List.of(Animal.class)),
+                    new IndexedExtension("a.B", List.of("a.C", "a.D"), "a.Q", null));
+            cache.write(fingerprint, extensions);
+
+            List<IndexedExtension> read = cache.read(fingerprint);
+            assertEquals(2, read.size());
+            assertEquals(extensions.get(0).format(), read.get(0).format());
+            assertEquals(extensions.get(1).format(), read.get(1).format());
+            assertEquals(Map.of("value", "cat"), read.get(0).qualifierValues);
+
+            assertNull(cache.read(DiscoveryCache.fingerprint(getClass().getClassLoader(), "other")));
+        } finally {
+            try (Stream<Path> files = Files.walk(dir)) {
+                files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+            }
+        }
+    }
+
+    /**
+     * The classpath is a manifest-only jar that points to a directory, like the one test runners use.
+     */
+    @Test
+    void cacheIn() throws Exception {
+        Path dir = Files.createTempDirectory("discovery-cache");
+        try {
+            Path classes = dir.resolve("classes");
+            String name = ExtensionFinderTest.compileExtension(classes, "Goat");
+            Path index = classes.resolve("META-INF/annotations/" + Extension.class.getName());
+            Path classFile = classes.resolve(name.replace('.', '/') + ".class");
+
+            Manifest m = new Manifest();
+            m.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+            m.getMainAttributes().put(Attributes.Name.CLASS_PATH, "classes/");
+            Path jar = dir.resolve("boot.jar");
+            try (OutputStream out = Files.newOutputStream(jar)) {
+                new JarOutputStream(out, m).close();
+            }
+
+            Path cache = dir.resolve("cache");
+            try (URLClassLoader cl = new URLClassLoader(new URL[] {jar.toUri().toURL()}, getClass().getClassLoader())) {
+                assertFalse(discover(cl, cache, name, true));
+                assertTrue(discover(cl, cache, name, true));
+
+                // a class file deep inside the directory changes
+                FileTime t = Files.getLastModifiedTime(classFile);
+                Files.setLastModifiedTime(classFile, FileTime.fromMillis(t.toMillis() + 10_000));
+                assertFalse(discover(cl, cache, name, true));
+                assertTrue(discover(cl, cache, name, true));
+
+                Files.writeString(index, "");
+                Files.setLastModifiedTime(index, FileTime.fromMillis(t.toMillis() + 20_000));
+                assertFalse(discover(cl, cache, name, false));
+            }
+        } finally {
+            try (Stream<Path> files = Files.walk(dir)) {
+                files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+            }
+        }
+    }
+
+    /**
+     * Creates an injector, and checks whether the given extension got bound.
+     *
+     * @return whether the discovery result came from the cache.
+     */
+    private static boolean discover(ClassLoader cl, Path cache, String extension, boolean bound) {
+        List<String> indices = new ArrayList<>();
+        Injector i = Guice.createInjector(new ExtensionFinder(cl).cacheIn(cache).addListener((phase, subject, d) -> {
+            if (phase == Phase.INDEX) {
+                indices.add(subject);
+            }
+        }));
+        assertEquals(bound, i.getExistingBinding(Key.get(Animal.class, Names.named(extension))) != null);
+        return indices.contains(DiscoveryCache.class.getName());
+    }
+}
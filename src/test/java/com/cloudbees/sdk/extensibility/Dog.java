@@ -23,6 +23,7 @@ import jakarta.inject.Named;
  */
 @Extension
 @Named("dog")
+@Ordinal(1)
 public class Dog extends Animal {
 
     @Override
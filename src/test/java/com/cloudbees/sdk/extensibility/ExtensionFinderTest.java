@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cloudbees.sdk.extensibility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.TypeLiteral;
+import com.google.inject.name.Names;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+
+class ExtensionFinderTest {
+    private final ClassLoader cl = getClass().getClassLoader();
+
+    @Test
+    void parallelClassLoading() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Injector serial = Guice.createInjector(new ExtensionFinder(cl));
+            Injector parallel = Guice.createInjector(new ExtensionFinder(cl).loadClassesWith(executor));
+            assertEquals(serial.getBindings().keySet(), parallel.getBindings().keySet());
+            assertEquals(2, new ExtensionList<>(Animal.class).list(parallel).size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void childOf() throws Exception {
+        Path dir = Files.createTempDirectory("child-extensions");
+        try {
+            compileExtension(dir, "Goat");
+
+            try (URLClassLoader child = new URLClassLoader(new URL[] {dir.toUri().toURL()}, cl)) {
+                Injector parent = Guice.createInjector(new ExtensionFinder(cl));
+                Injector plugin = parent.createChildInjector(new ExtensionFinder(child).childOf(parent));
+                ExtensionList<Animal> animals = new ExtensionList<>(Animal.class);
+                int inherited = animals.list(parent).size();
+
+                // only the child's own extension is added, and the parent's are not bound again
+                List<Animal> all = animals.list(plugin);
+                assertEquals(inherited + 1, all.size());
+                assertEquals(1, all.stream().filter(a -> a.getClass().getClassLoader() == child).count());
+
+                // an injected list is created by the parent, so it only sees the plugin once attached
+                ExtensionList<Animal> injected =
+                        plugin.getInstance(Key.get(new TypeLiteral<ExtensionList<Animal>>() {}));
+                assertEquals(inherited, injected.snapshot().size());
+                plugin.getInstance(ExtensionRegistry.class).attach(plugin);
+                assertEquals(inherited + 1, injected.snapshot().size());
+            }
+        } finally {
+            try (Stream<Path> files = Files.walk(dir)) {
+                files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+            }
+        }
+    }
+
+    /**
+     * A class listed in an index but not annotated with the annotation of that index is not an extension.
+     */
+    @Test
+    void notAnnotated() throws Exception {
+        Path dir = Files.createTempDirectory("stale-index");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            index(dir, Extension.class, Cow.class.getName());
+            try (URLClassLoader stale = new URLClassLoader(new URL[] {dir.toUri().toURL()}, cl)) {
+                Key<Animal> cow = Key.get(Animal.class, Names.named(Cow.class.getName()));
+                assertNull(Guice.createInjector(new ExtensionFinder(stale)).getExistingBinding(cow));
+                assertNull(Guice.createInjector(new ExtensionFinder(stale).loadClassesWith(executor))
+                        .getExistingBinding(cow));
+            }
+        } finally {
+            executor.shutdownNow();
+            try (Stream<Path> files = Files.walk(dir)) {
+                files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+            }
+        }
+    }
+
+    /**
+     * Compiles an {@link Animal} extension of the given name into the directory, along with its index.
+     * Unlike the extensions of the test classpath, only a class loader of that directory sees it.
+     *
+     * @return the class name.
+     */
+    static String compileExtension(Path dir, String simpleName) throws IOException {
+        String name = Animal.class.getPackageName() + "." + simpleName;
+        Path source = dir.resolve(simpleName + ".java");
+        Files.createDirectories(dir);
+        Files.writeString(
+                source,
+                "package " + Animal.class.getPackageName() + ";\n"
+                        + "@Extension\n"
+                        + "public class " + simpleName + " extends Animal {\n"
+                        + "    public String bark() { return \"" + simpleName + "\"; }\n"
+                        + "}\n");
+        JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+        int r = javac.run(
+                null,
+                null,
+                null,
+                "-proc:none",
+                "-cp",
+                System.getProperty("java.class.path"),
+                "-d",
+                dir.toString(),
+                source.toString());
+        assertEquals(0, r, "failed to compile " + name);
+        index(dir, Extension.class, name);
+        return name;
+    }
+
+    /**
+     * Writes the {@code META-INF/annotations/} index of the given annotation.
+     */
+    static void index(Path dir, Class<?> annotation, String... names) throws IOException {
+        Path index = dir.resolve("META-INF/annotations/" + annotation.getName());
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, String.join("\n", names) + "\n");
+    }
+}
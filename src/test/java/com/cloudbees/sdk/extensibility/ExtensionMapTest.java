@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cloudbees.sdk.extensibility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.TypeLiteral;
+import com.google.inject.name.Named;
+import jakarta.inject.Qualifier;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.annotation_indexer.Indexed;
+
+class ExtensionMapTest {
+    private final ClassLoader cl = getClass().getClassLoader();
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.TYPE)
+    @Indexed
+    @Qualifier
+    @ExtensionImplementation
+    public @interface CLICommand {
+        String value();
+    }
+
+    @ExtensionPoint
+    public abstract static class Command {}
+
+    @CLICommand("acme")
+    public static class AcmeCommand extends Command {}
+
+    @CLICommand("hello")
+    public static class HelloCommand extends Command {}
+
+    @Test
+    void customQualifier() {
+        for (ExtensionFinder f : List.of(new ExtensionFinder(cl), new ExtensionFinder(cl).deferClassLoading())) {
+            Injector i = Guice.createInjector(f);
+            ExtensionMap<CLICommand, Command> m =
+                    i.getInstance(Key.get(new TypeLiteral<ExtensionMap<CLICommand, Command>>() {}));
+            assertInstanceOf(AcmeCommand.class, m.get("acme"));
+            assertInstanceOf(HelloCommand.class, m.get("hello"));
+            assertNull(m.get("cat"));
+            assertEquals(List.of("acme", "hello"), new ArrayList<>(m.keySet()));
+        }
+    }
+
+    /**
+     * Guice turns {@link jakarta.inject.Named} into its own {@link Named}, which the map has to follow.
+     */
+    @Test
+    void named() {
+        Injector i = Guice.createInjector(new ExtensionFinder(cl));
+        ExtensionMap<jakarta.inject.Named, Animal> jakarta =
+                i.getInstance(Key.get(new TypeLiteral<ExtensionMap<jakarta.inject.Named, Animal>>() {}));
+        ExtensionMap<Named, Animal> guice = i.getInstance(Key.get(new TypeLiteral<ExtensionMap<Named, Animal>>() {}));
+        assertEquals(List.of("cat", "dog"), new ArrayList<>(jakarta.keySet()));
+        assertEquals(jakarta.keySet(), guice.keySet());
+        assertInstanceOf(Cat.class, guice.get("cat"));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cloudbees.sdk.extensibility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class ExtensionPointsTest {
+    @ExtensionPoint
+    public interface Base {}
+
+    @ExtensionPoint
+    public interface Derived extends Base {}
+
+    public abstract static class AbstractImpl implements Base {}
+
+    // reaches Base through two paths
+    public static class Impl extends AbstractImpl implements Derived, Runnable {
+        @Override
+        public void run() {}
+    }
+
+    @Test
+    void sameAsUncachedWalk() {
+        for (Class<?> c : List.of(Impl.class, AbstractImpl.class, Derived.class, Dog.class, Cat.class, String.class)) {
+            assertEquals(walk(c), ExtensionPoints.of(c), c.getName());
+        }
+        assertEquals(List.of(Base.class, Derived.class), List.copyOf(ExtensionPoints.of(Impl.class)));
+    }
+
+    @Test
+    void cached() {
+        Set<Class<?>> first = ExtensionPoints.of(Impl.class);
+        long misses = ExtensionPoints.getCacheMisses();
+        assertSame(first, ExtensionPoints.of(Impl.class));
+        assertEquals(misses, ExtensionPoints.getCacheMisses());
+    }
+
+    /**
+     * Resolves extension points the way {@link ExtensionPoints} does, without the cache.
+     */
+    private static Set<Class<?>> walk(Class<?> type) {
+        Set<Class<?>> r = new LinkedHashSet<>();
+        if (type.isAnnotationPresent(ExtensionPoint.class)) {
+            r.add(type);
+        }
+        if (type.getSuperclass() != null) {
+            r.addAll(walk(type.getSuperclass()));
+        }
+        for (Class<?> i : type.getInterfaces()) {
+            r.addAll(walk(i));
+        }
+        return r;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cloudbees.sdk.extensibility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.google.inject.Binding;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.name.Names;
+import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ExtensionRegistryTest {
+    @Inject
+    private ExtensionList<Animal> animals;
+
+    @Inject
+    private ExtensionRegistry registry;
+
+    @Test
+    void attachAndDetach() {
+        Injector i = Guice.createInjector(new ExtensionFinder(getClass().getClassLoader()));
+        i.injectMembers(this);
+        List<Binding<Animal>> changes = new ArrayList<>();
+        animals.addListener((added, removed) -> {
+            changes.addAll(added);
+            changes.addAll(removed);
+        });
+        assertEquals(2, animals.snapshot().size());
+
+        Cat kitten = new Cat();
+        Injector plugin = i.createChildInjector(
+                b -> b.bind(Key.get(Animal.class, Names.named("kitten"))).toInstance(kitten));
+        registry.attach(plugin);
+        assertEquals(3, animals.snapshot().size());
+        assertEquals(3, animals.list(i).size());
+        assertEquals(3, animals.list(plugin).size()); // not counted twice
+        assertEquals(1, changes.size());
+
+        registry.detach(plugin);
+        assertEquals(2, animals.snapshot().size());
+        assertEquals(2, changes.size());
+        assertSame(kitten, changes.get(1).getProvider().get());
+    }
+}
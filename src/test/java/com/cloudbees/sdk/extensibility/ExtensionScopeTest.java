@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cloudbees.sdk.extensibility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Scopes;
+import com.google.inject.name.Names;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ExtensionScopeTest {
+    @ExtensionPoint(scope = ExtensionScope.SINGLETON)
+    public interface Shared {}
+
+    @Extension
+    public static class SharedImpl implements Shared {}
+
+    @ExtensionPoint(scope = ExtensionScope.SINGLETON)
+    public interface Left {}
+
+    @ExtensionPoint(scope = ExtensionScope.SINGLETON)
+    public interface Right {}
+
+    @Extension
+    public static class Both implements Left, Right {}
+
+    @Test
+    void singleton() {
+        ExtensionProvisionCounter counter = new ExtensionProvisionCounter();
+        Injector i = Guice.createInjector(new ExtensionFinder(getClass().getClassLoader()), counter);
+
+        ExtensionList<Shared> shared = new ExtensionList<>(Shared.class);
+        assertSame(shared.list(i).get(0), shared.list(i).get(0));
+        assertEquals(Long.valueOf(1), counter.getCounts().get(SharedImpl.class));
+
+        ExtensionList<Animal> animals = new ExtensionList<>(Animal.class);
+        animals.list(i);
+        animals.list(i);
+        assertEquals(Long.valueOf(2), counter.getCounts().get(Cat.class)); // unscoped
+    }
+
+    /**
+     * A singleton implementation of two extension points is the same instance through either of them.
+     */
+    @Test
+    void singletonOfTwoExtensionPoints() {
+        ClassLoader cl = getClass().getClassLoader();
+        for (ExtensionFinder f : List.of(new ExtensionFinder(cl), new ExtensionFinder(cl).deferClassLoading())) {
+            ExtensionProvisionCounter counter = new ExtensionProvisionCounter();
+            Injector i = Guice.createInjector(f, counter);
+
+            Left left = new ExtensionList<>(Left.class).list(i).get(0);
+            Right right = new ExtensionList<>(Right.class).list(i).get(0);
+            assertSame(left, right);
+            assertEquals(Long.valueOf(1), counter.getCounts().get(Both.class));
+        }
+    }
+
+    @Test
+    void warmUp() {
+        ExtensionProvisionCounter counter = new ExtensionProvisionCounter();
+        Injector i = Guice.createInjector(new ExtensionFinder(getClass().getClassLoader()), counter);
+
+        ExtensionWarmup.Report r = new ExtensionWarmup(ForkJoinPool.commonPool()).warmUp(i);
+        assertTrue(r.getFailures().isEmpty());
+        assertTrue(r.getDurations().containsKey(SharedImpl.class.getName()));
+        assertEquals(Long.valueOf(1), counter.getCounts().get(SharedImpl.class));
+        assertNull(counter.getCounts().get(Cat.class)); // unscoped, so only its class is initialized
+
+        new ExtensionList<>(Shared.class).list(i);
+        assertEquals(Long.valueOf(1), counter.getCounts().get(SharedImpl.class));
+    }
+
+    /**
+     * Provider bindings don't tell their implementation, so each of them has to be warmed up.
+     */
+    @Test
+    void warmUpProviders() {
+        AtomicInteger created = new AtomicInteger();
+        Injector i = Guice.createInjector(b -> {
+            for (String name : new String[] {"a", "b", "c"}) {
+                b.bind(Key.get(Shared.class, Names.named(name)))
+                        .toProvider(() -> {
+                            created.incrementAndGet();
+                            return new SharedImpl();
+                        })
+                        .in(Scopes.SINGLETON);
+            }
+        });
+
+        ExtensionWarmup.Report r = new ExtensionWarmup(ForkJoinPool.commonPool()).warmUp(i);
+        assertTrue(r.getFailures().isEmpty());
+        assertEquals(3, r.getDurations().size());
+        assertEquals(3, created.get());
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cloudbees.sdk.extensibility.benchmark;
+
+import com.cloudbees.sdk.extensibility.AnnotationLiteral;
+import com.cloudbees.sdk.extensibility.Cat;
+import jakarta.inject.Named;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the operations Guice performs on {@link AnnotationLiteral}s used as qualifiers.
+ * <p>
+ * With the GC profiler, {@code hash} should report no allocation, since the JIT removes the boxing
+ * done by the proxy. The {@code equals} benchmarks still allocate around 50 bytes per operation
+ * for the argument array the proxy passes to its handler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AnnotationLiteralBenchmark {
+    private final Named literal = AnnotationLiteral.of(Named.class, "cat");
+    private final Named otherLiteral = AnnotationLiteral.of(Named.class, "cat");
+    private final Named real = Cat.class.getAnnotation(Named.class);
+
+    @Benchmark
+    public Named create() {
+        return AnnotationLiteral.of(Named.class, "cat");
+    }
+
+    @Benchmark
+    public Named canonical() {
+        return AnnotationLiteral.canonical(Named.class, "cat");
+    }
+
+    @Benchmark
+    public int hash() {
+        return literal.hashCode();
+    }
+
+    @Benchmark
+    public boolean equalsLiteral() {
+        return literal.equals(otherLiteral);
+    }
+
+    @Benchmark
+    public boolean equalsReal() {
+        return literal.equals(real);
+    }
+}
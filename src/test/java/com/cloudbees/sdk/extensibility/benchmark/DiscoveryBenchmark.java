@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cloudbees.sdk.extensibility.benchmark;
+
+import com.cloudbees.sdk.extensibility.ExtensionFinder;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.Elements;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long {@link ExtensionFinder} takes to discover a few thousand extensions,
+ * with serial and parallel class loading.
+ * <p>
+ * Each invocation uses a new class loader, since classes are only loaded once per loader.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+public class DiscoveryBenchmark {
+    @Param({"2000"})
+    public int extensions;
+
+    private SyntheticExtensions synthetic;
+    private ClassLoader cl;
+
+    @Setup(Level.Trial)
+    public void generate() throws IOException {
+        synthetic = SyntheticExtensions.generate(extensions);
+    }
+
+    @Setup(Level.Invocation)
+    public void newClassLoader() {
+        cl = synthetic.newClassLoader();
+    }
+
+    @Benchmark
+    public List<Element> serial() {
+        return Elements.getElements(new ExtensionFinder(cl));
+    }
+
+    @Benchmark
+    public List<Element> parallel() {
+        return Elements.getElements(new ExtensionFinder(cl).loadClassesWith(ForkJoinPool.commonPool()));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cloudbees.sdk.extensibility.benchmark;
+
+import com.cloudbees.sdk.extensibility.Animal;
+import com.cloudbees.sdk.extensibility.Cat;
+import com.cloudbees.sdk.extensibility.Dog;
+import com.cloudbees.sdk.extensibility.ExtensionList;
+import com.google.inject.AbstractModule;
+import com.google.inject.Binding;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.TypeLiteral;
+import com.google.inject.name.Names;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link ExtensionList#list(Injector)} as the number of unrelated bindings
+ * and the depth of the injector hierarchy grow.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ExtensionListBenchmark {
+    /**
+     * Total number of unrelated bindings, spread evenly across the injector chain.
+     */
+    @Param({"10", "1000", "10000"})
+    public int bindings;
+
+    /**
+     * Number of injectors in the parent chain.
+     */
+    @Param({"1", "4"})
+    public int depth;
+
+    private Injector injector;
+    private final ExtensionList<Animal> animals = new ExtensionList<>(Animal.class);
+    private ExtensionList<Animal> injected;
+    private final TypeLiteral<Animal> type = TypeLiteral.get(Animal.class);
+
+    @Setup
+    public void setUp() {
+        int perInjector = bindings / depth;
+        for (int d = 0; d < depth; d++) {
+            int level = d;
+            AbstractModule m = new AbstractModule() {
+                @Override
+                protected void configure() {
+                    for (int i = 0; i < perInjector; i++) {
+                        bind(Key.get(String.class, Names.named(level + "-" + i))).toInstance("x");
+                    }
+                    bind(Key.get(Animal.class, Names.named("cat-" + level))).toInstance(new Cat());
+                    bind(Key.get(Animal.class, Names.named("dog-" + level))).toInstance(new Dog());
+                }
+            };
+            injector = injector == null ? Guice.createInjector(m) : injector.createChildInjector(m);
+        }
+        injected = injector.getInstance(Key.get(new TypeLiteral<ExtensionList<Animal>>() {}));
+    }
+
+    @Benchmark
+    public List<Animal> list() {
+        return animals.list(injector);
+    }
+
+    @Benchmark
+    public void iterator(Blackhole bh) {
+        for (Animal a : injected) {
+            bh.consume(a);
+        }
+    }
+
+    @Benchmark
+    public void snapshot(Blackhole bh) {
+        List<Animal> s = injected.snapshot();
+        for (int i = 0; i < s.size(); i++) {
+            bh.consume(s.get(i));
+        }
+    }
+
+    /**
+     * What {@link ExtensionList#list(Injector)} used to do: scan every binding of every injector.
+     */
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<Animal> fullScan() {
+        List<Animal> r = new ArrayList<>();
+        for (Injector i = injector; i != null; i = i.getParent()) {
+            for (Entry<Key<?>, Binding<?>> e : i.getBindings().entrySet()) {
+                if (e.getKey().getTypeLiteral().equals(type)) {
+                    r.add((Animal) e.getValue().getProvider().get());
+                }
+            }
+        }
+        return r;
+    }
+}
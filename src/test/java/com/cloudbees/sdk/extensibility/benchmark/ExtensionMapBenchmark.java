@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cloudbees.sdk.extensibility.benchmark;
+
+import com.cloudbees.sdk.extensibility.Animal;
+import com.cloudbees.sdk.extensibility.AnnotationLiteral;
+import com.cloudbees.sdk.extensibility.ExtensionFinder;
+import com.cloudbees.sdk.extensibility.ExtensionMap;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.TypeLiteral;
+import jakarta.inject.Named;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares looking up an extension by name through {@link ExtensionMap} with building a {@link Key}
+ * out of an {@link AnnotationLiteral}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ExtensionMapBenchmark {
+    private Injector injector;
+    private ExtensionMap<Named, Animal> animals;
+
+    @Setup
+    public void setUp() {
+        injector = Guice.createInjector(new ExtensionFinder(getClass().getClassLoader()));
+        animals = injector.getInstance(Key.get(new TypeLiteral<ExtensionMap<Named, Animal>>() {}));
+    }
+
+    @Benchmark
+    public Animal extensionMap() {
+        return animals.get("dog");
+    }
+
+    @Benchmark
+    public Animal annotationLiteral() {
+        return injector.getBinding(Key.get(Animal.class, AnnotationLiteral.of(Named.class, "dog")))
+                .getProvider()
+                .get();
+    }
+}
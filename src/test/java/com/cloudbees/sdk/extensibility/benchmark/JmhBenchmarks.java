@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cloudbees.sdk.extensibility.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs all the JMH benchmarks in this package, with the GC profiler so that allocations per operation
+ * are reported next to the timings. Modes and iterations are configured on each benchmark.
+ * <p>
+ * Skipped during the normal build; use {@code mvn test -Pbenchmark} to run them, and
+ * {@code -Dbenchmark.include=<regexp>} to only run some.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class JmhBenchmarks {
+
+    @Test
+    void runJmhBenchmarks() throws RunnerException {
+        String include = System.getProperty("benchmark.include", ".*Benchmark");
+        Options options = new OptionsBuilder()
+                .include(getClass().getPackage().getName() + "\\." + include)
+                .forks(1)
+                .addProfiler(GCProfiler.class)
+                .shouldFailOnError(true)
+                .build();
+        new Runner(options).run();
+    }
+}
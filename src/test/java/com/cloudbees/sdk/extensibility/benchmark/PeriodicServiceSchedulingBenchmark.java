@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cloudbees.sdk.extensibility.benchmark;
+
+import com.cloudbees.sdk.extensibility.lifecycle.PeriodicService;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of scheduling a large number of {@link PeriodicService}s, and reports
+ * how many threads are alive while they are all scheduled.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class PeriodicServiceSchedulingBenchmark {
+    @Param({"10000"})
+    public int services;
+
+    /**
+     * Live threads in the JVM once all the services are started.
+     */
+    public long threads;
+
+    private final List<PeriodicService> all = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void create() {
+        for (int i = 0; i < services; i++) {
+            all.add(new PeriodicService() {
+                @Override
+                protected void run() {}
+
+                @Override
+                protected long getPeriod() {
+                    return 100;
+                }
+            });
+        }
+    }
+
+    @Benchmark
+    public void startAll() throws Exception {
+        for (PeriodicService s : all) {
+            s.start();
+        }
+        threads = ManagementFactory.getThreadMXBean().getThreadCount();
+    }
+
+    @TearDown(Level.Invocation)
+    public void stopAll() {
+        for (PeriodicService s : all) {
+            s.stop();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cloudbees.sdk.extensibility.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * Generates and compiles a given number of {@code @Extension} classes, so that benchmarks can
+ * discover a realistically large world. The classes are compiled with the regular annotation
+ * processors, so they are indexed just like real extensions.
+ */
+final class SyntheticExtensions {
+    private final Path classes;
+
+    private SyntheticExtensions(Path classes) {
+        this.classes = classes;
+    }
+
+    static SyntheticExtensions generate(int count) throws IOException {
+        Path dir = Files.createTempDirectory("synthetic-extensions");
+        Path src = Files.createDirectories(dir.resolve("src/synthetic"));
+        Path classes = Files.createDirectories(dir.resolve("classes"));
+        List<Path> sources = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Path f = src.resolve("Extension" + i + ".java");
+            Files.writeString(
+                    f,
+                    "package synthetic;\n"
+                            + "@com.cloudbees.sdk.extensibility.Extension\n"
+                            + "public class Extension" + i + " extends com.cloudbees.sdk.extensibility.Animal {\n"
+                            + "    public String bark() { return \"" + i + "\"; }\n"
+                            + "}\n");
+            sources.add(f);
+        }
+
+        JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fm = javac.getStandardFileManager(diagnostics, Locale.ROOT, null)) {
+            List<String> options = List.of(
+                    "-classpath", System.getProperty("java.class.path"), "-d", classes.toString(), "-nowarn");
+            boolean ok = javac.getTask(null, fm, diagnostics, options, null, fm.getJavaFileObjectsFromPaths(sources))
+                    .call();
+            if (!ok) {
+                throw new IllegalStateException(
+                        "Failed to compile synthetic extensions: " + diagnostics.getDiagnostics());
+            }
+        }
+        return new SyntheticExtensions(classes);
+    }
+
+    /**
+     * Directory that holds the compiled extensions and their indices.
+     */
+    Path getClasses() {
+        return classes;
+    }
+
+    /**
+     * Creates a fresh class loader that sees the synthetic extensions, so that each measurement loads them anew.
+     */
+    ClassLoader newClassLoader() {
+        try {
+            return new URLClassLoader(new URL[] {classes.toUri().toURL()}, getClass().getClassLoader());
+        } catch (MalformedURLException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cloudbees.sdk.extensibility.lifecycle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PeriodicServiceTest {
+    private Service service;
+
+    /**
+     * Released by every completed execution of a {@link #counted(Service)} service.
+     */
+    private final Semaphore completed = new Semaphore(0);
+
+    @AfterEach
+    void stop() {
+        if (service != null) {
+            service.stop();
+        }
+    }
+
+    /**
+     * Makes the service report its completed executions to {@link #completed}.
+     * By the time an execution is reported, it's recorded in the statistics.
+     */
+    private Service counted(Service s) {
+        PeriodicServiceListener l = new PeriodicServiceListener() {
+            @Override
+            public void onCompleted(PeriodicService service, Duration duration, Duration lag, Throwable failure) {
+                completed.release();
+            }
+        };
+        Guice.createInjector(b -> b.bind(PeriodicServiceListener.class).toInstance(l)).injectMembers(s);
+        return s;
+    }
+
+    @Test
+    void runsUntilStopped() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        service = counted(new Service(10, 0, () -> {
+            if (runs.incrementAndGet() == 3) {
+                service.stop();
+            }
+        }));
+        service.start();
+        assertTrue(completed.tryAcquire(3, 10, TimeUnit.SECONDS));
+
+        // the third execution stopped the service, so nothing was scheduled after it
+        assertFalse(completed.tryAcquire(200, TimeUnit.MILLISECONDS));
+        assertEquals(3, runs.get());
+        assertEquals(3, service.getStatistics().getRuns());
+    }
+
+    @Test
+    void restartWhileRunning() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        service = counted(new Service(5, 50, () -> {
+            entered.countDown();
+            release.await();
+            Thread.sleep(20); // longer than the period, so that a second chain would run into it
+        }));
+        service.start();
+        assertTrue(entered.await(10, TimeUnit.SECONDS));
+        service.stop();
+        service.start();
+        release.countDown();
+
+        // two chains of executions would keep running into each other
+        assertTrue(completed.tryAcquire(5, 10, TimeUnit.SECONDS));
+        service.stop();
+        assertEquals(0, service.getStatistics().getSkippedRuns());
+    }
+
+    @Test
+    void statistics() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        service = counted(new Service(10, 0, () -> {
+            if (runs.incrementAndGet() == 2) {
+                service.stop();
+            }
+            throw new IOException("failing");
+        }));
+        service.start();
+        assertTrue(completed.tryAcquire(2, 10, TimeUnit.SECONDS));
+
+        PeriodicService.Statistics s = service.getStatistics();
+        assertEquals(2, s.getRuns());
+        assertEquals(2, s.getFailures());
+        assertEquals(2, LongStream.of(s.getDurationHistogram()).sum());
+        assertNull(s.getLastSuccess());
+        assertNotNull(s.getLastFailure());
+        assertNotNull(s.getLastLag());
+        assertTrue(s.getMaxLag().compareTo(s.getLastLag()) >= 0);
+    }
+
+    @Test
+    void skipsOverlappingRun() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        service = new Service(60_000, 0, () -> {
+            entered.countDown();
+            release.await();
+        });
+        service.start();
+        assertTrue(entered.await(10, TimeUnit.SECONDS));
+        assertThrows(IllegalStateException.class, service::doRun);
+        release.countDown();
+        assertEquals(1, service.getStatistics().getSkippedRuns());
+    }
+
+    @Test
+    void coalescing() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        service = counted(new Service(60_000, 0, () -> {
+                    if (runs.incrementAndGet() == 1) {
+                        entered.countDown();
+                        release.await();
+                    }
+                })
+                .with(SchedulingPolicy.fixedDelay().coalescing()));
+        service.start();
+        assertTrue(entered.await(10, TimeUnit.SECONDS));
+        service.doRun(); // returns right away instead of failing
+        service.doRun(); // folded into the same follow-up run
+        release.countDown();
+
+        assertTrue(completed.tryAcquire(2, 10, TimeUnit.SECONDS));
+        assertEquals(2, runs.get());
+        assertEquals(0, service.getStatistics().getSkippedRuns());
+    }
+
+    @Test
+    void listeners() throws Exception {
+        Counting.instances.set(0);
+        Counting.completed.set(0);
+        Injector i = Guice.createInjector(b -> b.bind(PeriodicServiceListener.class).to(Counting.class));
+        service = new Service(60_000, 60_000, () -> {});
+        i.injectMembers(service);
+        for (int n = 0; n < 3; n++) {
+            service.doRun(); // notifies the listeners before returning
+        }
+        assertEquals(1, Counting.instances.get()); // reused across executions
+        assertEquals(3, Counting.completed.get());
+    }
+
+    /**
+     * A listener that can't be instantiated doesn't fail the execution.
+     */
+    @Test
+    void brokenListener() throws Exception {
+        Injector i = Guice.createInjector(b -> b.bind(PeriodicServiceListener.class).to(Broken.class));
+        AtomicInteger runs = new AtomicInteger();
+        service = new Service(60_000, 60_000, runs::incrementAndGet);
+        i.injectMembers(service);
+        service.doRun();
+        assertEquals(1, runs.get());
+        assertEquals(1, service.getStatistics().getRuns());
+        assertEquals(0, service.getStatistics().getFailures());
+    }
+
+    public static class Broken implements PeriodicServiceListener {
+        public Broken() {
+            throw new IllegalStateException("broken");
+        }
+    }
+
+    public static class Counting implements PeriodicServiceListener {
+        static final AtomicInteger instances = new AtomicInteger();
+        static final AtomicInteger completed = new AtomicInteger();
+
+        public Counting() {
+            instances.incrementAndGet();
+        }
+
+        @Override
+        public void onCompleted(PeriodicService service, Duration duration, Duration lag, Throwable failure) {
+            completed.incrementAndGet();
+        }
+    }
+
+    interface Task {
+        void run() throws Exception;
+    }
+
+    static class Service extends PeriodicService {
+        private final long period;
+        private final long initialDelay;
+        private final Task task;
+        private SchedulingPolicy policy = SchedulingPolicy.fixedDelay();
+
+        Service(long period, long initialDelay, Task task) {
+            this.period = period;
+            this.initialDelay = initialDelay;
+            this.task = task;
+        }
+
+        Service with(SchedulingPolicy policy) {
+            this.policy = policy;
+            return this;
+        }
+
+        @Override
+        protected void run() throws Exception {
+            task.run();
+        }
+
+        @Override
+        protected long getPeriod() {
+            return period;
+        }
+
+        @Override
+        protected long getInitialDelay() {
+            return initialDelay;
+        }
+
+        @Override
+        protected SchedulingPolicy getSchedulingPolicy() {
+            return policy;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cloudbees.sdk.extensibility.lifecycle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class SchedulingPolicyTest {
+    @Test
+    void fixedDelay() {
+        // measured from when the last execution started, not from when it was due
+        long d = SchedulingPolicy.fixedDelay().nextDelay(100, ago(30), ago(20), 0);
+        assertTrue(d > 60 && d <= 80, "delay " + d);
+        assertEquals(0, SchedulingPolicy.fixedDelay().nextDelay(100, ago(500), ago(400), 0)); // overrun
+    }
+
+    @Test
+    void fixedRate() {
+        long d = SchedulingPolicy.fixedRate().nextDelay(100, ago(30), ago(20), 0);
+        assertTrue(d > 50 && d <= 70, "delay " + d);
+        assertEquals(0, SchedulingPolicy.fixedRate().nextDelay(100, ago(500), ago(400), 0)); // overrun
+    }
+
+    @Test
+    void jitter() {
+        SchedulingPolicy p = SchedulingPolicy.fixedDelay().withJitter(0.5);
+        Set<Long> delays = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            long now = System.nanoTime();
+            long d = p.nextDelay(100, now, now, 0);
+            assertTrue(d >= 50 && d <= 150, "delay " + d);
+            delays.add(d);
+        }
+        assertTrue(delays.size() > 10);
+        assertThrows(IllegalArgumentException.class, () -> SchedulingPolicy.fixedDelay().withJitter(1.5));
+    }
+
+    @Test
+    void backoff() {
+        SchedulingPolicy p = SchedulingPolicy.fixedRate().withBackoff(2, Duration.ofSeconds(1));
+        long now = System.nanoTime();
+        assertEquals(200, p.nextDelay(100, now, now, 1));
+        assertEquals(800, p.nextDelay(100, now, now, 3));
+        assertEquals(1000, p.nextDelay(100, now, now, 10)); // capped
+        assertTrue(p.nextDelay(100, now, now, 0) <= 100); // reset by a success
+        assertThrows(IllegalArgumentException.class, () -> SchedulingPolicy.fixedDelay().withBackoff(2, null));
+    }
+
+    private static long ago(long ms) {
+        return System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(ms);
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cloudbees.sdk.extensibility.lifecycle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class StartableRunnerTest {
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final List<String> started = Collections.synchronizedList(new ArrayList<>());
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void startAfter() throws Exception {
+        StartableRunner.Report r = new StartableRunner(executor).start(List.of(new Last(), new First()));
+        assertEquals(List.of("first", "last"), started);
+        assertEquals(2, r.getLatencies().size());
+        assertEquals(Last.class, r.getStartOrder().get(1).getClass());
+    }
+
+    @Test
+    void failFast() {
+        StartableRunner.StartupException e = assertThrows(
+                StartableRunner.StartupException.class,
+                () -> new StartableRunner(executor).start(List.of(new AfterBroken(), new Broken(), new First())));
+        assertSame(Broken.FAILURE, e.getCause());
+        assertFalse(started.contains("afterBroken"));
+        assertTrue(e.getReport().getInProgress().size() <= 1); // First might still be sleeping
+    }
+
+    /**
+     * Components already queued on the executor when the startup fails are not started.
+     */
+    @Test
+    void failFastQueued() throws Exception {
+        ExecutorService single = Executors.newSingleThreadExecutor();
+        try {
+            StartableRunner.StartupException e = assertThrows(
+                    StartableRunner.StartupException.class,
+                    () -> new StartableRunner(single)
+                            .start(List.of(new Broken(), new Named("a"), new Named("b"), new Named("c"))));
+            assertSame(Broken.FAILURE, e.getCause());
+            single.shutdown();
+            assertTrue(single.awaitTermination(10, TimeUnit.SECONDS));
+            assertEquals(List.of(), started);
+            assertEquals(List.of(), e.getReport().getStartOrder());
+            assertEquals(List.of(), e.getReport().getInProgress());
+        } finally {
+            single.shutdownNow();
+        }
+    }
+
+    @Test
+    void timeout() {
+        StartableRunner.StartupException e = assertThrows(
+                StartableRunner.StartupException.class,
+                () -> new StartableRunner(executor).withTimeout(Duration.ofMillis(10)).start(List.of(new First())));
+        assertInstanceOf(TimeoutException.class, e.getCause());
+        assertTrue(e.getCause().getMessage().contains("did not start within"));
+        assertEquals(List.of(), e.getReport().getStartOrder());
+    }
+
+    /**
+     * Time spent waiting for a thread doesn't count against the timeout.
+     */
+    @Test
+    void timeoutExcludesQueueTime() throws Exception {
+        ExecutorService single = Executors.newSingleThreadExecutor();
+        try {
+            List<Startable> slow = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                slow.add(new Slow());
+            }
+            // 20 x 50ms queue up for a second, well beyond the timeout of each
+            StartableRunner.Report r = new StartableRunner(single).withTimeout(Duration.ofMillis(500)).start(slow);
+            assertEquals(20, r.getStartOrder().size());
+        } finally {
+            single.shutdownNow();
+        }
+    }
+
+    private class First implements Startable {
+        @Override
+        public void start() throws Exception {
+            Thread.sleep(100);
+            started.add("first");
+        }
+    }
+
+    @StartAfter(First.class)
+    private class Last implements Startable {
+        @Override
+        public void start() {
+            started.add("last");
+        }
+    }
+
+    private static class Slow implements Startable {
+        @Override
+        public void start() throws Exception {
+            Thread.sleep(50);
+        }
+    }
+
+    private class Named implements Startable {
+        private final String name;
+
+        Named(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void start() {
+            started.add(name);
+        }
+    }
+
+    private static class Broken implements Startable {
+        static final IOException FAILURE = new IOException("broken");
+
+        @Override
+        public void start() throws Exception {
+            throw FAILURE;
+        }
+    }
+
+    @StartAfter(Broken.class)
+    private class AfterBroken implements Startable {
+        @Override
+        public void start() {
+            started.add("afterBroken");
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026, CloudBees Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cloudbees.sdk.extensibility.lifecycle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.cloudbees.sdk.extensibility.Extension;
+import com.cloudbees.sdk.extensibility.ExtensionFinder;
+import com.cloudbees.sdk.extensibility.ExtensionList;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class StoppableRunnerTest {
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final List<String> stopped = Collections.synchronizedList(new ArrayList<>());
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void reverseOrder() throws Exception {
+        StartableRunner.Report started = new StartableRunner(executor).start(List.of(new Last(), new First()));
+        StoppableRunner.Report r = new StoppableRunner(executor).stop(started);
+        assertEquals(List.of("last", "first"), stopped);
+        assertTrue(r.isClean());
+    }
+
+    @Test
+    void timeout() throws Exception {
+        StoppableRunner.Report r = new StoppableRunner(executor)
+                .withTimeout(Duration.ofMillis(100))
+                .stop(List.of(new First(), new Stuck()));
+        assertFalse(r.isClean());
+        assertEquals(Stuck.class, r.getTimedOut().get(0).getClass());
+        assertEquals(List.of("first"), stopped);
+    }
+
+    @Test
+    void rejected() throws Exception {
+        ExecutorService closed = Executors.newSingleThreadExecutor();
+        closed.shutdown();
+        First first = new First();
+        StoppableRunner.Report r = new StoppableRunner(closed).stop(List.of(first));
+        assertFalse(r.isClean());
+        assertInstanceOf(RejectedExecutionException.class, r.getFailures().get(first));
+    }
+
+    @Test
+    void stopsWhatWasStarted() {
+        Injector i = Guice.createInjector(new ExtensionFinder(getClass().getClassLoader()));
+        Service started = find(new ExtensionList<>(Startable.class).list(i));
+        assertSame(started, find(new ExtensionList<>(Stoppable.class).list(i)));
+    }
+
+    @Test
+    void stopsWhatWasStartedDeferred() {
+        Injector i = Guice.createInjector(new ExtensionFinder(getClass().getClassLoader()).deferClassLoading());
+        Service started = find(new ExtensionList<>(Startable.class).list(i));
+        assertSame(started, find(new ExtensionList<>(Stoppable.class).list(i)));
+    }
+
+    private static Service find(List<?> extensions) {
+        for (Object o : extensions) {
+            if (o instanceof Service) {
+                return (Service) o;
+            }
+        }
+        throw new AssertionError(Service.class + " not found in " + extensions);
+    }
+
+    @Extension
+    public static class Service implements Startable, Stoppable {
+        @Override
+        public void start() {}
+
+        @Override
+        public void stop() {}
+    }
+
+    private class First implements Startable, Stoppable {
+        @Override
+        public void start() {}
+
+        @Override
+        public void stop() {
+            stopped.add("first");
+        }
+    }
+
+    @StartAfter(First.class)
+    private class Last implements Startable, Stoppable {
+        @Override
+        public void start() {}
+
+        @Override
+        public void stop() throws Exception {
+            Thread.sleep(100);
+            stopped.add("last");
+        }
+    }
+
+    @StartAfter(First.class)
+    private static class Stuck implements Stoppable {
+        @Override
+        public void stop() throws Exception {
+            Thread.sleep(10_000);
+        }
+    }
+}